@@ -0,0 +1,146 @@
+package br.com.validations.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.validations.Error;
+import br.com.validations.FailureReporter;
+import br.com.validations.ValidationResult;
+import br.com.validations.Validator;
+import br.com.validations.annotation.BrazilianState;
+import br.com.validations.annotation.Cep;
+import br.com.validations.annotation.Cnpj;
+import br.com.validations.annotation.Cpf;
+import br.com.validations.annotation.Email;
+import br.com.validations.annotation.NotNull;
+import br.com.validations.annotation.Phone;
+import br.com.validations.annotation.Size;
+import br.com.validations.annotation.StateRegistration;
+
+/**
+ * Compara o plano interpretado, o plano compilado ({@link Validator#setCompiledPlans(boolean)}) e a mesma validação
+ * escrita à mão, chamando as verificações do {@link Validator} diretamente.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompiledPlanBenchmark {
+
+    public static class Company {
+        @NotNull
+        @Size(min = 2, max = 120)
+        String corporateName = "Empresa Exemplo Ltda";
+        @Cnpj
+        String cnpj = "11.222.333/0001-81";
+        @Cpf
+        String partnerCpf = "529.982.247-25";
+        @BrazilianState(stateRegistration = true)
+        String state = "São Paulo";
+        @StateRegistration
+        String stateRegistration = "028787014961";
+        @Email
+        String email = "contato@empresa.com.br";
+        @Phone
+        String phone = "(11) 91234-5678";
+        @Cep
+        String cep = "01310-100";
+    }
+
+    @Param({ "interpreted", "compiled" })
+    private String plan;
+
+    @Param({ "valid", "invalid" })
+    private String input;
+
+    private Company company;
+
+    @Setup
+    public void setup() {
+        Validator.setFailureReporter(FailureReporter.NONE);
+        Validator.setCompiledPlans(plan.equals("compiled"));
+        company = new Company();
+        if (input.equals("invalid")) {
+            company.cnpj = "11.222.333/0001-82";
+            company.stateRegistration = "028787014962";
+            company.email = "contato@empresa";
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Validator.setCompiledPlans(false);
+    }
+
+    @Benchmark
+    public ValidationResult validate() {
+        return Validator.validate(company);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return Validator.isValid(company);
+    }
+
+    @Benchmark
+    public ValidationResult validateHandWritten() {
+        Company company = this.company;
+        List<Error> errors = new ArrayList<>();
+        if (!Validator.checkSize(company.corporateName, 2, 120)) {
+            errors.add(new Error("Size Annotation", "Tamanho inválido", "corporateName"));
+        }
+        if (!Validator.checkNotNull(company.corporateName)) {
+            errors.add(new Error("Empty Value Annotation", "O valor do atributo não pode ser vázio", "corporateName"));
+        }
+        if (!Validator.checkCnpj(company.cnpj)) {
+            errors.add(new Error("Cnpj Annotation", "Cnpj inválido", "cnpj"));
+        }
+        if (!Validator.checkCpf(company.partnerCpf)) {
+            errors.add(new Error("Cpf Annotation", "Cpf inválido", "partnerCpf"));
+        }
+        if (!Validator.checkBrazilianState(company.state)) {
+            errors.add(new Error("Brazilian State Annotation", "Estado inválido", "state"));
+        }
+        if (!Validator.checkStateRegistrationForState(company.stateRegistration, company.state)) {
+            errors.add(new Error("State Registration Annotation", "Inscricão estadual inválida", "stateRegistration"));
+        }
+        if (!Validator.checkEmail(company.email)) {
+            errors.add(new Error("Email Annotation", "Email inválido", "email"));
+        }
+        if (!Validator.checkPhone(company.phone)) {
+            errors.add(new Error("Phone Annotation", "Telefone inválido", "phone"));
+        }
+        if (!Validator.checkCep(company.cep)) {
+            errors.add(new Error("Cep Annotation", "Cep inválido", "cep"));
+        }
+        return new ValidationResult(errors);
+    }
+
+    @Benchmark
+    public boolean isValidHandWritten() {
+        Company company = this.company;
+        return Validator.checkSize(company.corporateName, 2, 120) && Validator.checkNotNull(company.corporateName)
+                && Validator.checkCnpj(company.cnpj) && Validator.checkCpf(company.partnerCpf)
+                && Validator.checkBrazilianState(company.state)
+                && Validator.checkStateRegistrationForState(company.stateRegistration, company.state)
+                && Validator.checkEmail(company.email) && Validator.checkPhone(company.phone)
+                && Validator.checkCep(company.cep);
+    }
+
+}
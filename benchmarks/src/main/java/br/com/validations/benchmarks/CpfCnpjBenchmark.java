@@ -0,0 +1,147 @@
+package br.com.validations.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.validations.document.CpfCnpj;
+
+/**
+ * Compara a implementação anterior do Validator (replaceAll + tabelas de pesos alocadas a cada chamada) com
+ * {@link CpfCnpj}. Rode com {@code -prof gc} para ver a taxa de alocação. As variantes {@code Bytes} comparam
+ * decodificar um buffer de rede para String com validar direto no {@code byte[]} ou {@code ByteBuffer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CpfCnpjBenchmark {
+
+    private String cpf = "529.982.247-25";
+    private String cnpj = "11.222.333/0001-81";
+    private long cpfNumber = 52998224725L;
+    private long cnpjNumber = 11222333000181L;
+    // O documento no meio de uma mensagem, como chega de um buffer de rede
+    private byte[] message = "cpf=529.982.247-25&cnpj=11.222.333/0001-81".getBytes(StandardCharsets.US_ASCII);
+    private ByteBuffer directMessage = ByteBuffer.allocateDirect(message.length).put(0, message);
+
+    @Benchmark
+    public boolean cpfLegacy() {
+        return legacyCpf(cpf);
+    }
+
+    @Benchmark
+    public boolean cpf() {
+        return CpfCnpj.isValidCpf(cpf);
+    }
+
+    @Benchmark
+    public boolean cpfLong() {
+        return CpfCnpj.isValidCpf(cpfNumber);
+    }
+
+    @Benchmark
+    public boolean cnpjLegacy() {
+        return legacyCnpj(cnpj);
+    }
+
+    @Benchmark
+    public boolean cnpj() {
+        return CpfCnpj.isValidCnpj(cnpj);
+    }
+
+    @Benchmark
+    public boolean cnpjLong() {
+        return CpfCnpj.isValidCnpj(cnpjNumber);
+    }
+
+    @Benchmark
+    public boolean cpfBytesDecoded() {
+        return CpfCnpj.isValidCpf(new String(message, 4, 14, StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public boolean cpfBytes() {
+        return CpfCnpj.isValidCpf(message, 4, 14);
+    }
+
+    @Benchmark
+    public boolean cpfDirectBuffer() {
+        return CpfCnpj.isValidCpf(directMessage, 4, 14);
+    }
+
+    @Benchmark
+    public boolean cnpjBytesDecoded() {
+        return CpfCnpj.isValidCnpj(new String(message, 24, 18, StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public boolean cnpjBytes() {
+        return CpfCnpj.isValidCnpj(message, 24, 18);
+    }
+
+    @Benchmark
+    public boolean cnpjDirectBuffer() {
+        return CpfCnpj.isValidCnpj(directMessage, 24, 18);
+    }
+
+    private static boolean legacyCpf(String cpf) {
+        cpf = cpf.replaceAll("[^0-9]", "");
+        if (cpf.length() != 11) {
+            return false;
+        }
+        int soma = 0;
+        for (int i = 0; i < 9; i++) {
+            soma += (cpf.charAt(i) - '0') * (10 - i);
+        }
+        int primeiroDigito = 11 - (soma % 11);
+        if (primeiroDigito >= 10) {
+            primeiroDigito = 0;
+        }
+        soma = 0;
+        for (int i = 0; i < 10; i++) {
+            soma += (cpf.charAt(i) - '0') * (11 - i);
+        }
+        int segundoDigito = 11 - (soma % 11);
+        if (segundoDigito >= 10) {
+            segundoDigito = 0;
+        }
+        return (cpf.charAt(9) - '0' == primeiroDigito) && (cpf.charAt(10) - '0' == segundoDigito);
+    }
+
+    private static boolean legacyCnpj(String cnpj) {
+        cnpj = cnpj.replaceAll("[^0-9]", "");
+        if (cnpj.length() != 14) {
+            return false;
+        }
+        int[] pesosPrimeiroDigito = { 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 };
+        int soma = 0;
+        for (int i = 0; i < 12; i++) {
+            soma += (cnpj.charAt(i) - '0') * pesosPrimeiroDigito[i];
+        }
+        int resto = soma % 11;
+        int primeiroDigitoVerificador = (resto < 2) ? 0 : (11 - resto);
+        int[] pesosSegundoDigito = { 6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 };
+        soma = 0;
+        for (int i = 0; i < 13; i++) {
+            soma += (cnpj.charAt(i) - '0') * pesosSegundoDigito[i];
+        }
+        resto = soma % 11;
+        int segundoDigitoVerificador = (resto < 2) ? 0 : (11 - resto);
+        return (cnpj.charAt(12) - '0' == primeiroDigitoVerificador)
+                && (cnpj.charAt(13) - '0' == segundoDigitoVerificador);
+    }
+
+}
@@ -0,0 +1,105 @@
+package br.com.validations.benchmarks;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.validations.document.CpfCnpj;
+import br.com.validations.document.CpfCnpjBulk;
+
+/**
+ * Compara {@link CpfCnpjBulk} com a Vector API (fork com {@code --add-modules jdk.incubator.vector}), o mesmo lote no
+ * laço escalar e um laço chamando {@link CpfCnpj#isValidCpf(long)} documento a documento.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CpfCnpjBulkBenchmark {
+
+    private static final String VECTOR_MODULE = "--add-modules=jdk.incubator.vector";
+
+    @Param({ "1000000" })
+    private int size;
+
+    private long[] cpfs;
+    private long[] cnpjs;
+    private byte[][] cpfDigits;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        cpfs = new long[size];
+        cnpjs = new long[size];
+        cpfDigits = new byte[11][size];
+        for (int i = 0; i < size; i++) {
+            // Cerca de um terço válido
+            cpfs[i] = i % 3 == 0 ? 52998224725L : random.nextLong(100_000_000_000L);
+            cnpjs[i] = i % 3 == 0 ? 11222333000181L : random.nextLong(100_000_000_000_000L);
+            long cpf = cpfs[i];
+            for (int j = 10; j >= 0; j--) {
+                cpfDigits[j][i] = (byte) (cpf % 10);
+                cpf /= 10;
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public BitSet cpfVector() {
+        return CpfCnpjBulk.validateCpf(cpfs);
+    }
+
+    @Benchmark
+    public BitSet cpfScalar() {
+        return CpfCnpjBulk.validateCpf(cpfs);
+    }
+
+    @Benchmark
+    public BitSet cpfPerDocument() {
+        BitSet valid = new BitSet(cpfs.length);
+        for (int i = 0; i < cpfs.length; i++) {
+            if (CpfCnpj.isValidCpf(cpfs[i])) {
+                valid.set(i);
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public BitSet cnpjVector() {
+        return CpfCnpjBulk.validateCnpj(cnpjs);
+    }
+
+    @Benchmark
+    public BitSet cnpjScalar() {
+        return CpfCnpjBulk.validateCnpj(cnpjs);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public BitSet cpfDigitsVector() {
+        return CpfCnpjBulk.validateCpf(cpfDigits);
+    }
+
+    @Benchmark
+    public BitSet cpfDigitsScalar() {
+        return CpfCnpjBulk.validateCpf(cpfDigits);
+    }
+
+}
@@ -0,0 +1,67 @@
+package br.com.validations.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.validations.annotation.Cpf;
+
+/**
+ * Compara a leitura de um campo via {@code Field.get}, usada antes pelo Validator, com o
+ * {@code MethodHandle} resolvido uma vez no plano de validação.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldAccessBenchmark {
+
+    public static class Customer {
+        @Cpf
+        private String cpf = "529.982.247-25";
+    }
+
+    private Customer customer;
+    private Field field;
+    private MethodHandle getter;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        customer = new Customer();
+        field = Customer.class.getDeclaredField("cpf");
+        field.setAccessible(true);
+        getter = MethodHandles.lookup().unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    @Benchmark
+    public String direct() {
+        return customer.cpf;
+    }
+
+    @Benchmark
+    public String fieldGet() throws IllegalAccessException {
+        return (String) field.get(customer);
+    }
+
+    @Benchmark
+    public String methodHandle() throws Throwable {
+        return (String) (Object) getter.invokeExact((Object) customer);
+    }
+
+}
@@ -0,0 +1,102 @@
+package br.com.validations.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.validations.Validator;
+import br.com.validations.file.ColumnRule;
+import br.com.validations.file.FileReport;
+import br.com.validations.file.FileValidator;
+
+/**
+ * Valida um CSV gerado com {@link FileValidator}, direto do arquivo mapeado, e da forma tradicional: lendo cada linha
+ * como String, separando os campos e chamando as verificações do {@link Validator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileValidatorBenchmark {
+
+    private static final String[] CPFS = { "529.982.247-25", "111.444.777-35", "52998224726" };
+    private static final String[] CNPJS = { "11.222.333/0001-81", "11222333000181", "11.222.333/0001-82" };
+    private static final String[] CEPS = { "01310-100", "01310100", "0131" };
+
+    @Param({ "100000" })
+    private int rows;
+
+    @Param({ "1", "4" })
+    private int parallelism;
+
+    private Path file;
+    private FileValidator validator;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("file-validator", ".csv");
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("nome;cpf;cnpj;cep;ie;uf;email\n");
+            for (int i = 0; i < rows; i++) {
+                out.write("Cliente " + i + ";" + CPFS[i % 3] + ";" + CNPJS[i % 3] + ";" + CEPS[i % 3] + ";"
+                        + (i % 5 == 0 ? "028787014962" : "028787014961") + ";SP;cliente" + i + "@empresa.com.br\n");
+            }
+        }
+        validator = FileValidator.csv(';')
+                .column("nome", ColumnRule.NOT_NULL)
+                .column("cpf", ColumnRule.CPF)
+                .column("cnpj", ColumnRule.CNPJ)
+                .column("cep", ColumnRule.CEP)
+                .stateRegistration("ie", "uf")
+                .column("email", ColumnRule.EMAIL);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public FileReport fileValidator() throws IOException {
+        return validator.validate(file, parallelism);
+    }
+
+    @Benchmark
+    public int linesAsStrings() throws IOException {
+        int errors = 0;
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            in.readLine();
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] fields = line.split(";", -1);
+                errors += Validator.checkNotNull(fields[0]) ? 0 : 1;
+                errors += Validator.checkCpf(fields[1]) ? 0 : 1;
+                errors += Validator.checkCnpj(fields[2]) ? 0 : 1;
+                errors += Validator.checkCep(fields[3]) ? 0 : 1;
+                errors += Validator.checkStateRegistrationForState(fields[4], fields[5]) ? 0 : 1;
+                errors += Validator.checkEmail(fields[6]) ? 0 : 1;
+            }
+        }
+        return errors;
+    }
+
+}
@@ -0,0 +1,95 @@
+package br.com.validations.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.validations.format.Formats;
+
+/**
+ * Compara {@code String.matches}, usado antes pelo Validator, com um {@code Pattern} pré-compilado e com os
+ * reconhecedores de {@link Formats}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatBenchmark {
+
+    private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+    private static final String CEP_REGEX = "^\\d{5}-\\d{3}$";
+    private static final String PHONE_REGEX =
+            "^\\(?(\\d{2})\\)? ?(?:9\\d{4}-\\d{4}|9\\d{8}|\\d{4}-\\d{4}|\\d{8}|9\\d{4}\\d{4}|\\d{9}|9\\d{8}|\\d{8})$";
+
+    private static final Pattern EMAIL = Pattern.compile(EMAIL_REGEX);
+    private static final Pattern CEP = Pattern.compile(CEP_REGEX);
+    private static final Pattern PHONE = Pattern.compile(PHONE_REGEX);
+
+    private String email = "fulano.silva@empresa.com.br";
+    private String cep = "01310-100";
+    private byte[] cepBytes = cep.getBytes(StandardCharsets.US_ASCII);
+    private String phone = "(11) 91234-5678";
+
+    @Benchmark
+    public boolean emailStringMatches() {
+        return email.matches(EMAIL_REGEX);
+    }
+
+    @Benchmark
+    public boolean emailPattern() {
+        return EMAIL.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean emailFormats() {
+        return Formats.isEmail(email);
+    }
+
+    @Benchmark
+    public boolean cepStringMatches() {
+        return cep.matches(CEP_REGEX);
+    }
+
+    @Benchmark
+    public boolean cepPattern() {
+        return CEP.matcher(cep).matches();
+    }
+
+    @Benchmark
+    public boolean cepFormats() {
+        return Formats.isCep(cep);
+    }
+
+    @Benchmark
+    public boolean cepBytes() {
+        return Formats.isCep(cepBytes, 0, cepBytes.length);
+    }
+
+    @Benchmark
+    public boolean phoneStringMatches() {
+        return phone.matches(PHONE_REGEX);
+    }
+
+    @Benchmark
+    public boolean phonePattern() {
+        return PHONE.matcher(phone).matches();
+    }
+
+    @Benchmark
+    public boolean phoneFormats() {
+        return Formats.isPhone(phone);
+    }
+
+}
@@ -0,0 +1,95 @@
+package br.com.validations.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.validations.Validator;
+
+/**
+ * Mede cada verificação pública do {@link Validator} isoladamente, com um valor válido e um inválido.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RuleBenchmark {
+
+    @Param({ "valid", "invalid" })
+    private String input;
+
+    private String cpf;
+    private String cnpj;
+    private String email;
+    private String cep;
+    private String phone;
+    private String size;
+    private String notNull;
+    private String state;
+
+    @Setup
+    public void setup() {
+        boolean valid = input.equals("valid");
+        cpf = valid ? "529.982.247-25" : "529.982.247-26";
+        cnpj = valid ? "11.222.333/0001-81" : "11.222.333/0001-82";
+        email = valid ? "cliente@empresa.com.br" : "cliente@empresa";
+        cep = valid ? "01310-100" : "01310-10";
+        phone = valid ? "(11) 91234-5678" : "(11) 1234-567";
+        size = valid ? "Maria da Silva" : "M";
+        notNull = valid ? "Maria" : " ";
+        state = valid ? "São Paulo" : "Sao Paolo";
+    }
+
+    @Benchmark
+    public boolean cpf() {
+        return Validator.checkCpf(cpf);
+    }
+
+    @Benchmark
+    public boolean cnpj() {
+        return Validator.checkCnpj(cnpj);
+    }
+
+    @Benchmark
+    public boolean email() {
+        return Validator.checkEmail(email);
+    }
+
+    @Benchmark
+    public boolean cep() {
+        return Validator.checkCep(cep);
+    }
+
+    @Benchmark
+    public boolean phone() {
+        return Validator.checkPhone(phone);
+    }
+
+    @Benchmark
+    public boolean size() {
+        return Validator.checkSize(size, 2, 60);
+    }
+
+    @Benchmark
+    public boolean notNull() {
+        return Validator.checkNotNull(notNull);
+    }
+
+    @Benchmark
+    public boolean brazilianState() {
+        return Validator.checkBrazilianState(state);
+    }
+
+}
@@ -0,0 +1,85 @@
+package br.com.validations.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.validations.Validator;
+import br.com.validations.enums.BrazilianStates;
+
+/**
+ * Mede a validação de inscrição estadual de cada um dos 27 estados, pela sigla e pelo nome do estado.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StateRegistrationBenchmark {
+
+    // Uma inscrição válida por estado
+    private static final Map<String, String> SAMPLES = Map.ofEntries(
+            Map.entry("AC", "0150367844098"),
+            Map.entry("AL", "248486845"),
+            Map.entry("AP", "031495737"),
+            Map.entry("AM", "019963343"),
+            Map.entry("BA", "37178040"),
+            Map.entry("CE", "721227562"),
+            Map.entry("DF", "9705744112146"),
+            Map.entry("ES", "987103482"),
+            Map.entry("GO", "101031882"),
+            Map.entry("MA", "125151217"),
+            Map.entry("MT", "71958168392"),
+            Map.entry("MS", "287027511"),
+            Map.entry("MG", "6950992968329"),
+            Map.entry("PA", "153472448"),
+            Map.entry("PB", "977132781"),
+            Map.entry("PR", "1708027568"),
+            Map.entry("PE", "14644061407074"),
+            Map.entry("PI", "905479637"),
+            Map.entry("RJ", "52081130"),
+            Map.entry("RN", "200097750"),
+            Map.entry("RS", "8332494646"),
+            Map.entry("RO", "67502836819024"),
+            Map.entry("RR", "243314488"),
+            Map.entry("SC", "017184029"),
+            Map.entry("SP", "028787014961"),
+            Map.entry("SE", "508518865"),
+            Map.entry("TO", "622389939"));
+
+    @Param({ "AC", "AL", "AP", "AM", "BA", "CE", "DF", "ES", "GO", "MA", "MT", "MS", "MG", "PA", "PB", "PR", "PE",
+            "PI", "RJ", "RN", "RS", "RO", "RR", "SC", "SP", "SE", "TO" })
+    private String uf;
+
+    private String registration;
+    private String state;
+
+    @Setup
+    public void setup() {
+        registration = SAMPLES.get(uf);
+        state = BrazilianStates.fromUf(uf).getName();
+    }
+
+    @Benchmark
+    public boolean byUf() {
+        return Validator.checkStateRegistration(registration, uf);
+    }
+
+    @Benchmark
+    public boolean byState() {
+        return Validator.checkStateRegistrationForState(registration, state);
+    }
+
+}
@@ -0,0 +1,196 @@
+package br.com.validations.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.validations.FailureReporter;
+import br.com.validations.Group;
+import br.com.validations.ValidationResult;
+import br.com.validations.Validator;
+import br.com.validations.annotation.BrazilianState;
+import br.com.validations.annotation.Cep;
+import br.com.validations.annotation.Cnpj;
+import br.com.validations.annotation.Cpf;
+import br.com.validations.annotation.Email;
+import br.com.validations.annotation.NotNull;
+import br.com.validations.annotation.Phone;
+import br.com.validations.annotation.Size;
+import br.com.validations.annotation.StateRegistration;
+import br.com.validations.annotation.TargetValidation;
+import br.com.validations.exception.ValidationException;
+
+/**
+ * Mede o caminho completo de {@link Validator#target(Object)}, {@link Validator#validate(Object)} e
+ * {@link Validator#isValid(Object)} sobre DTOs parecidos com os registros importados, válidos e inválidos, incluindo
+ * um pedido com objetos aninhados, a validação só do grupo de busca rápida e a de uma única propriedade.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TargetBenchmark {
+
+    // Busca rápida: só as regras baratas do nome
+    public interface QuickSearch extends Group {
+    }
+
+    public static class Customer {
+        @NotNull(groups = { Group.Default.class, QuickSearch.class })
+        @Size(min = 2, max = 60, groups = { Group.Default.class, QuickSearch.class })
+        private String name = "Maria da Silva";
+        @Cpf
+        @NotNull
+        private String cpf = "529.982.247-25";
+        @Email
+        private String email = "maria@empresa.com.br";
+        @Phone
+        private String phone = "(11) 91234-5678";
+        @Cep
+        private String cep = "01310-100";
+        @BrazilianState
+        private String state = "São Paulo";
+    }
+
+    public static class Company {
+        @NotNull
+        @Size(min = 2, max = 120)
+        private String corporateName = "Empresa Exemplo Ltda";
+        @Cnpj
+        @NotNull
+        private String cnpj = "11.222.333/0001-81";
+        @BrazilianState(stateRegistration = true)
+        private String state = "São Paulo";
+        @StateRegistration
+        private String stateRegistration = "028787014961";
+        @Email
+        private String email = "contato@empresa.com.br";
+        @Cep
+        private String cep = "01310-100";
+    }
+
+    public static class Address {
+        @Cep
+        @NotNull
+        private String cep = "01310-100";
+        @BrazilianState
+        private String state = "São Paulo";
+    }
+
+    public static class Item {
+        @NotNull
+        private String description = "Produto";
+        @Cnpj
+        private String supplier = "11.222.333/0001-81";
+    }
+
+    public static class Order {
+        @TargetValidation
+        private Customer customer = new Customer();
+        @TargetValidation
+        private Address delivery = new Address();
+        @TargetValidation
+        private List<Item> items = new ArrayList<>();
+    }
+
+    @Param({ "valid", "invalid" })
+    private String input;
+
+    private Customer customer;
+    private Company company;
+    private Order order;
+
+    @Setup
+    public void setup() {
+        // Os avisos de campos inválidos iriam para o console a cada operação
+        Validator.setFailureReporter(FailureReporter.NONE);
+        customer = new Customer();
+        company = new Company();
+        if (input.equals("invalid")) {
+            customer.cpf = "529.982.247-26";
+            customer.email = "maria@empresa";
+            company.cnpj = "11.222.333/0001-82";
+            company.stateRegistration = "028787014962";
+        }
+        order = new Order();
+        order.customer = customer;
+        for (int i = 0; i < 20; i++) {
+            order.items.add(new Item());
+        }
+        if (input.equals("invalid")) {
+            order.delivery.cep = "0131";
+            order.items.get(3).supplier = "11.222.333/0001-82";
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validateCustomer() {
+        return Validator.validate(customer);
+    }
+
+    @Benchmark
+    public ValidationResult validateCompany() {
+        return Validator.validate(company);
+    }
+
+    // PATCH que altera só o e-mail: a inscrição estadual e o CNPJ não são revalidados
+    @Benchmark
+    public ValidationResult validateCompanyEmail() {
+        return Validator.validateProperties(company, "email");
+    }
+
+    @Benchmark
+    public ValidationResult validateOrder() {
+        return Validator.validate(order);
+    }
+
+    @Benchmark
+    public ValidationResult validateCustomerQuickSearch() {
+        return Validator.validate(customer, QuickSearch.class);
+    }
+
+    @Benchmark
+    public boolean isValidCustomer() {
+        return Validator.isValid(customer);
+    }
+
+    @Benchmark
+    public boolean isValidCompany() {
+        return Validator.isValid(company);
+    }
+
+    @Benchmark
+    public boolean targetCustomer() {
+        try {
+            Validator.target(customer);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean targetCompany() {
+        try {
+            Validator.target(company);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+
+}
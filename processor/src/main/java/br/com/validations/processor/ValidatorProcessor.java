@@ -0,0 +1,90 @@
+package br.com.validations.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+@SupportedAnnotationTypes({
+        "br.com.validations.annotation.BrazilianState",
+        "br.com.validations.annotation.Cep",
+        "br.com.validations.annotation.Cnpj",
+        "br.com.validations.annotation.Cpf",
+        "br.com.validations.annotation.Email",
+        "br.com.validations.annotation.NotNull",
+        "br.com.validations.annotation.Phone",
+        "br.com.validations.annotation.Size",
+        "br.com.validations.annotation.StateRegistration",
+        "br.com.validations.annotation.TargetValidation"
+})
+public class ValidatorProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                // Campos estáticos ficam de fora, como no plano do Validator
+                if (element.getKind() == ElementKind.FIELD && !element.getModifiers().contains(Modifier.STATIC)) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        // Subclasses sem anotações próprias também recebem um validador com os campos herdados
+        if (!types.isEmpty()) {
+            for (TypeElement root : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                addSubtypes(root, types);
+            }
+        }
+        for (TypeElement type : types) {
+            ValidatorSource source = new ValidatorSource(processingEnv, type);
+            String code = source.generate();
+            if (code == null) {
+                continue;
+            }
+            try {
+                JavaFileObject file = processingEnv.getFiler().createSourceFile(source.qualifiedName(), type);
+                try (Writer writer = file.openWriter()) {
+                    writer.write(code);
+                }
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Could not generate " + source.qualifiedName() + ": " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    private static void addSubtypes(TypeElement type, Set<TypeElement> types) {
+        if (type.getKind() == ElementKind.CLASS && !types.contains(type)) {
+            for (TypeElement current = ValidatorSource.superclass(type); current != null;
+                    current = ValidatorSource.superclass(current)) {
+                if (types.contains(current)) {
+                    types.add(type);
+                    break;
+                }
+            }
+        }
+        for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+            addSubtypes(member, types);
+        }
+    }
+
+}
@@ -0,0 +1,382 @@
+package br.com.validations.processor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import br.com.validations.Group;
+import br.com.validations.annotation.BrazilianState;
+import br.com.validations.annotation.Cep;
+import br.com.validations.annotation.Cnpj;
+import br.com.validations.annotation.Cpf;
+import br.com.validations.annotation.Email;
+import br.com.validations.annotation.NotNull;
+import br.com.validations.annotation.Phone;
+import br.com.validations.annotation.Size;
+import br.com.validations.annotation.StateRegistration;
+import br.com.validations.annotation.TargetValidation;
+import br.com.validations.enums.BrazilianStates;
+
+final class ValidatorSource {
+
+    private static final String VALIDATOR = "br.com.validations.Validator";
+    private static final String ERROR = "br.com.validations.Error";
+    private static final String RESULT = "br.com.validations.ValidationResult";
+
+    private final ProcessingEnvironment env;
+    private final TypeElement type;
+    private final String packageName;
+    private final String simpleName;
+    private final StringBuilder body = new StringBuilder();
+    private final StringBuilder failFast = new StringBuilder();
+    private boolean nested;
+    private boolean failed;
+
+    ValidatorSource(ProcessingEnvironment env, TypeElement type) {
+        this.env = env;
+        this.type = type;
+        this.packageName = env.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        this.simpleName = validatorName(type);
+    }
+
+    String qualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    String generate() {
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            error(type, "Validated types cannot be private");
+            return null;
+        }
+
+        List<VariableElement> fields = fields(type);
+        List<VariableElement> states = new ArrayList<>();
+        List<VariableElement> registrationStates = new ArrayList<>();
+        for (VariableElement field : fields) {
+            BrazilianState state = field.getAnnotation(BrazilianState.class);
+            if (state != null) {
+                states.add(field);
+                if (state.stateRegistration()) {
+                    registrationStates.add(field);
+                }
+            }
+        }
+
+        for (VariableElement field : fields) {
+            if (field.getAnnotation(TargetValidation.class) != null) {
+                nested(field);
+            }
+            if (field.getAnnotation(BrazilianState.class) != null) {
+                BrazilianState state = field.getAnnotation(BrazilianState.class);
+                check(field, isString(field), BrazilianState.class,
+                        "checkBrazilianState(" + read(field) + ")", state.code(), state.message());
+            } else if (field.getAnnotation(Cpf.class) != null) {
+                Cpf cpf = field.getAnnotation(Cpf.class);
+                check(field, isDocument(field), Cpf.class, "checkCpf(" + read(field) + ")", cpf.code(), cpf.message());
+            } else if (field.getAnnotation(Cnpj.class) != null) {
+                Cnpj cnpj = field.getAnnotation(Cnpj.class);
+                check(field, isDocument(field), Cnpj.class,
+                        "checkCnpj(" + read(field) + ")", cnpj.code(), cnpj.message());
+            } else if (field.getAnnotation(Email.class) != null) {
+                Email email = field.getAnnotation(Email.class);
+                check(field, isString(field), Email.class,
+                        "checkEmail(" + read(field) + ")", email.code(), email.message());
+            } else if (field.getAnnotation(Cep.class) != null) {
+                Cep cep = field.getAnnotation(Cep.class);
+                check(field, isString(field), Cep.class, "checkCep(" + read(field) + ")", cep.code(), cep.message());
+            } else if (field.getAnnotation(StateRegistration.class) != null) {
+                StateRegistration registration = field.getAnnotation(StateRegistration.class);
+                String call = stateRegistration(field, registration, states, registrationStates);
+                if (call != null) {
+                    check(field, isString(field), StateRegistration.class,
+                            call, registration.code(), registration.message());
+                }
+            } else if (field.getAnnotation(Phone.class) != null) {
+                Phone phone = field.getAnnotation(Phone.class);
+                check(field, isString(field), Phone.class,
+                        "checkPhone(" + read(field) + ")", phone.code(), phone.message());
+            } else if (field.getAnnotation(Size.class) != null) {
+                Size size = field.getAnnotation(Size.class);
+                check(field, isSized(field), Size.class,
+                        "checkSize(" + read(field) + ", " + size.min() + ", " + size.max() + ")", size.code(),
+                        size.message());
+            }
+            if (field.getAnnotation(NotNull.class) != null) {
+                NotNull notNull = field.getAnnotation(NotNull.class);
+                check(field, !field.asType().getKind().isPrimitive(), NotNull.class,
+                        "checkNotNull(" + read(field) + ")", notNull.code(), notNull.message());
+            }
+        }
+        return failed ? null : source();
+    }
+
+    private String source() {
+        String target = env.getTypeUtils().erasure(type.asType()).toString();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"")
+                .append(ValidatorProcessor.class.getName()).append("\")\n");
+        source.append("public final class ").append(simpleName).append(" {\n\n");
+        source.append("    private ").append(simpleName).append("() {\n    }\n\n");
+        source.append("    public static void target(").append(target).append(" object)\n");
+        source.append("            throws br.com.validations.exception.ValidationException {\n");
+        source.append("        ").append(RESULT).append(" result = validate(object);\n");
+        source.append("        if (!result.isValid()) {\n");
+        source.append("            throw new br.com.validations.exception.ValidationException(result.errors());\n");
+        source.append("        }\n    }\n\n");
+        source.append("    public static ").append(RESULT).append(" validate(").append(target).append(" object) {\n");
+        if (nested) {
+            source.append("        return ").append(VALIDATOR).append(".validate(object);\n    }\n\n");
+        } else {
+            source.append("        java.util.List<").append(ERROR).append("> errors = new java.util.ArrayList<>();\n");
+            source.append(body);
+            source.append("        return new ").append(RESULT).append("(errors);\n    }\n\n");
+        }
+        source.append("    public static boolean isValid(").append(target).append(" object) {\n");
+        if (nested) {
+            source.append("        return ").append(VALIDATOR).append(".isValid(object);\n    }\n\n}\n");
+        } else {
+            source.append(failFast);
+            source.append("        return true;\n    }\n\n}\n");
+        }
+        return source.toString();
+    }
+
+    // As sobrecargas de checkXxx no Validator escolhem a verificação de acordo com o tipo do campo
+    private void check(VariableElement field, boolean supported, Class<? extends Annotation> annotation, String call,
+            String code, String message) {
+        if (!supported) {
+            error(field, "@" + annotation.getSimpleName() + " does not apply to " + field.asType());
+            return;
+        }
+        if (!inDefaultGroup(field, annotation)) {
+            return;
+        }
+        body.append("        if (!").append(VALIDATOR).append('.').append(call).append(") {\n");
+        body.append("            errors.add(new ").append(ERROR).append('(').append(literal(code)).append(", ")
+                .append(literal(message)).append(", ").append(literal(field.getSimpleName().toString()))
+                .append("));\n");
+        body.append("        }\n");
+        failFast.append("        if (!").append(VALIDATOR).append('.').append(call).append(") {\n");
+        failFast.append("            return false;\n");
+        failFast.append("        }\n");
+    }
+
+    // Mesma ligação do ValidationPlan: o estado nomeado, o único campo com stateRegistration = true ou a uf fixa
+    private String stateRegistration(VariableElement field, StateRegistration registration,
+            List<VariableElement> states, List<VariableElement> registrationStates) {
+        VariableElement linked = null;
+        if (!registration.state().isEmpty()) {
+            for (VariableElement state : states) {
+                if (state.getSimpleName().contentEquals(registration.state())) {
+                    linked = state;
+                }
+            }
+            if (linked == null) {
+                error(field, "@StateRegistration(state = \"" + registration.state()
+                        + "\") does not name a @BrazilianState field");
+                return null;
+            }
+        } else if (registrationStates.size() > 1) {
+            error(field, "More than one @BrazilianState(stateRegistration = true) field; choose one with"
+                    + " @StateRegistration(state = ...)");
+            return null;
+        } else if (registrationStates.size() == 1) {
+            linked = registrationStates.get(0);
+        }
+        if (linked != null) {
+            return "checkStateRegistrationForState(" + read(field) + ", " + read(linked) + ")";
+        }
+        if (registration.uf().isEmpty()) {
+            error(field, "No @BrazilianState(stateRegistration = true) field and no @StateRegistration(uf = ...)");
+            return null;
+        }
+        BrazilianStates state = BrazilianStates.fromUf(registration.uf());
+        if (state == null) {
+            error(field, "No @BrazilianState(stateRegistration = true) field and @StateRegistration(uf = \""
+                    + registration.uf() + "\") is not a valid UF");
+            return null;
+        }
+        return "checkStateRegistration(" + read(field) + ", " + BrazilianStates.class.getName() + "." + state.name()
+                + ")";
+    }
+
+    // Ciclos, limite de profundidade, tipo em tempo de execução e a ordem em largura dos erros dependem do
+    // percurso do Validator, então uma classe com @TargetValidation é validada inteira por ele
+    private void nested(VariableElement field) {
+        TypeKind kind = field.asType().getKind();
+        if (kind != TypeKind.DECLARED && kind != TypeKind.ARRAY) {
+            error(field, "@TargetValidation requires an object field");
+            return;
+        }
+        if (inDefaultGroup(field, TargetValidation.class)) {
+            nested = true;
+        }
+    }
+
+    // Campos herdados vêm antes, na mesma ordem do plano usado pelo Validator, e os estáticos ficam de fora
+    static List<VariableElement> fields(TypeElement type) {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            hierarchy.push(current);
+        }
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement current : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    static TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private String read(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (isAccessible(field)) {
+            return "object." + name;
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(env.getElementUtils().getAllMembers(type))) {
+            String methodName = method.getSimpleName().toString();
+            boolean accessor = type.getKind() == ElementKind.RECORD ? methodName.equals(name)
+                    : methodName.equals("get" + capitalized) || methodName.equals("is" + capitalized);
+            if (accessor && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                return "object." + methodName + "()";
+            }
+        }
+        error(field, "Field " + name + " is not accessible from " + qualifiedName()
+                + " and needs a getter to be read by the generated validator");
+        return "object." + name;
+    }
+
+    // Campos protegidos ou de pacote herdados de outro pacote não são visíveis para o validador gerado
+    private boolean isAccessible(VariableElement field) {
+        if (field.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (field.getModifiers().contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        PackageElement declaring = env.getElementUtils().getPackageOf(field);
+        return declaring.getQualifiedName().contentEquals(packageName);
+    }
+
+    private boolean isString(VariableElement field) {
+        TypeElement string = env.getElementUtils().getTypeElement("java.lang.String");
+        return env.getTypeUtils().isSameType(field.asType(), string.asType());
+    }
+
+    // O validador gerado cobre só o grupo Default; os demais grupos usam Validator.validate(object, groups)
+    private boolean inDefaultGroup(VariableElement field, Class<? extends Annotation> annotation) {
+        TypeMirror defaultGroup = env.getElementUtils().getTypeElement(Group.Default.class.getCanonicalName()).asType();
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(annotation.getName())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues()
+                    .entrySet()) {
+                if (!entry.getKey().getSimpleName().contentEquals("groups")) {
+                    continue;
+                }
+                List<?> groups = (List<?>) entry.getValue().getValue();
+                if (groups.isEmpty()) {
+                    return true;
+                }
+                for (Object group : groups) {
+                    TypeMirror groupType = (TypeMirror) ((AnnotationValue) group).getValue();
+                    if (env.getTypeUtils().isSubtype(defaultGroup, groupType)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isDocument(VariableElement field) {
+        TypeMirror fieldType = field.asType();
+        return fieldType.getKind() == TypeKind.LONG || isString(field) || isType(fieldType, "java.lang.Long");
+    }
+
+    private boolean isSized(VariableElement field) {
+        TypeMirror fieldType = env.getTypeUtils().erasure(field.asType());
+        return fieldType.getKind() == TypeKind.ARRAY || isType(fieldType, "java.lang.Object")
+                || isSubtype(fieldType, "java.lang.CharSequence") || isSubtype(fieldType, "java.util.Collection")
+                || isSubtype(fieldType, "java.util.Map");
+    }
+
+    private boolean isType(TypeMirror fieldType, String name) {
+        TypeElement element = env.getElementUtils().getTypeElement(name);
+        return env.getTypeUtils().isSameType(fieldType, element.asType());
+    }
+
+    private boolean isSubtype(TypeMirror fieldType, String name) {
+        TypeElement element = env.getElementUtils().getTypeElement(name);
+        return env.getTypeUtils().isSubtype(fieldType, env.getTypeUtils().erasure(element.asType()));
+    }
+
+    private void error(Element element, String message) {
+        env.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        failed = true;
+    }
+
+    private static String validatorName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (!(enclosing instanceof PackageElement)) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append("Validator").toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+}
@@ -0,0 +1,331 @@
+package br.com.validations.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+import br.com.validations.FailureReporter;
+import br.com.validations.ValidationResult;
+import br.com.validations.Validator;
+
+// Compila DTOs de exemplo com o ValidatorProcessor e compara os validadores gerados com o Validator
+public class ValidatorProcessorTest {
+
+    private static final String ADDRESS = """
+            package fixture;
+
+            import br.com.validations.annotation.*;
+
+            public class Address {
+                @Cep
+                public String cep;
+                @NotNull
+                public String street;
+            }
+            """;
+
+    private static final String PERSON = """
+            package fixture;
+
+            import br.com.validations.annotation.*;
+
+            public class Person {
+                @Cpf
+                private String cpf;
+                @NotNull
+                protected String name;
+
+                public String getCpf() {
+                    return cpf;
+                }
+
+                public void setCpf(String cpf) {
+                    this.cpf = cpf;
+                }
+            }
+            """;
+
+    private static final String CUSTOMER = """
+            package fixture;
+
+            import java.util.List;
+
+            import br.com.validations.annotation.*;
+
+            public class Customer extends Person {
+                @Cnpj
+                public String cnpj;
+                @Cnpj
+                public long cnpjNumber;
+                @Cpf
+                public Long partnerCpf;
+                @Email
+                public String email;
+                @Phone
+                public String phone;
+                @BrazilianState(stateRegistration = true)
+                public String state;
+                @StateRegistration
+                public String registration;
+                @Size(min = 1, max = 2)
+                public List<String> tags;
+                @TargetValidation
+                public Address address;
+                @Cpf
+                public static String ignored = "1";
+            }
+            """;
+
+    private static final String SUPPLIER = """
+            package fixture;
+
+            import br.com.validations.annotation.*;
+
+            public record Supplier(@Cnpj String cnpj, @StateRegistration(uf = "MG") String registration,
+                    @Size(max = 3) String code) {
+            }
+            """;
+
+    // O campo aninhado vem antes dos demais, para conferir a ordem dos erros
+    private static final String NODE = """
+            package fixture;
+
+            import br.com.validations.annotation.*;
+
+            public class Node {
+                @TargetValidation
+                public Node next;
+                @NotNull
+                public String name;
+                @TargetValidation
+                public Person owner;
+            }
+            """;
+
+    @Test
+    public void generatedValidatorsMatchValidator() throws Exception {
+        Compilation compilation = compile(Map.of("Address", ADDRESS, "Person", PERSON, "Customer", CUSTOMER,
+                "Supplier", SUPPLIER));
+        assertTrue(compilation.errors(), compilation.success);
+        Validator.setFailureReporter(FailureReporter.NONE);
+        try (URLClassLoader loader = compilation.loader()) {
+            Class<?> customerType = loader.loadClass("fixture.Customer");
+            Class<?> addressType = loader.loadClass("fixture.Address");
+            Class<?> supplierType = loader.loadClass("fixture.Supplier");
+
+            Object valid = customerType.getConstructor().newInstance();
+            customerType.getMethod("setCpf", String.class).invoke(valid, "529.982.247-25");
+            set(valid, "name", "Cliente");
+            set(valid, "cnpj", "11.222.333/0001-81");
+            set(valid, "cnpjNumber", 11222333000181L);
+            set(valid, "partnerCpf", 52998224725L);
+            set(valid, "email", "cliente@empresa.com.br");
+            set(valid, "phone", "(11) 91234-5678");
+            set(valid, "state", "São Paulo");
+            set(valid, "registration", "028787014961");
+            set(valid, "tags", List.of("a"));
+            Object address = addressType.getConstructor().newInstance();
+            set(address, "cep", "01310-100");
+            set(address, "street", "Avenida Paulista");
+            set(valid, "address", address);
+            assertSame(loader, valid, 0);
+
+            Object invalid = customerType.getConstructor().newInstance();
+            customerType.getMethod("setCpf", String.class).invoke(invalid, "529.982.247-26");
+            set(invalid, "cnpj", "11.222.333/0001-82");
+            set(invalid, "cnpjNumber", 1L);
+            set(invalid, "partnerCpf", 52998224726L);
+            set(invalid, "email", "cliente@");
+            set(invalid, "phone", "123");
+            set(invalid, "state", "Minas Gerais");
+            set(invalid, "registration", "028787014961");
+            set(invalid, "tags", List.of("a", "b", "c"));
+            Object invalidAddress = addressType.getConstructor().newInstance();
+            set(invalidAddress, "cep", "0131");
+            set(invalid, "address", invalidAddress);
+            // cpf, name, cnpj, cnpjNumber, partnerCpf, email, phone, registration, tags, address.cep, address.street
+            assertSame(loader, invalid, 11);
+
+            Constructor<?> supplier = supplierType.getDeclaredConstructors()[0];
+            assertSame(loader, supplier.newInstance("11.222.333/0001-81", "6950992968329", "abc"), 0);
+            assertSame(loader, supplier.newInstance("11.222.333/0001-82", "028787014961", "abcd"), 3);
+        } finally {
+            Validator.setFailureReporter(FailureReporter.logging(System.Logger.Level.WARNING));
+        }
+    }
+
+    @Test
+    public void nestedObjectsFollowTheValidatorWalk() throws Exception {
+        Compilation compilation = compile(Map.of("Person", PERSON, "Customer", CUSTOMER, "Address", ADDRESS,
+                "Node", NODE));
+        assertTrue(compilation.errors(), compilation.success);
+        Validator.setFailureReporter(FailureReporter.NONE);
+        try (URLClassLoader loader = compilation.loader()) {
+            Class<?> nodeType = loader.loadClass("fixture.Node");
+            Object first = nodeType.getConstructor().newInstance();
+            Object second = nodeType.getConstructor().newInstance();
+            Object third = nodeType.getConstructor().newInstance();
+            set(first, "next", second);
+            set(second, "next", third);
+            set(third, "next", first);
+            set(second, "name", "segundo");
+            // O campo é Person, mas as regras de Customer valem para o objeto
+            Object owner = loader.loadClass("fixture.Customer").getConstructor().newInstance();
+            set(owner, "cnpj", "11.222.333/0001-82");
+            set(first, "owner", owner);
+            // first.name, next.next.name, owner.cnpj, owner.name; o ciclo de volta a first não repete erros
+            assertSame(loader, first, 4);
+
+            Validator.setMaxDepth(1);
+            // next.next passa do limite e falha com o erro do próprio @TargetValidation
+            assertSame(loader, first, 4);
+        } finally {
+            Validator.setMaxDepth(64);
+            Validator.setFailureReporter(FailureReporter.logging(System.Logger.Level.WARNING));
+        }
+    }
+
+    @Test
+    public void ambiguousStateLinkIsACompileError() throws IOException {
+        Compilation compilation = compile(Map.of("Ambiguous", """
+                package fixture;
+
+                import br.com.validations.annotation.*;
+
+                public class Ambiguous {
+                    @BrazilianState(stateRegistration = true)
+                    public String billingState;
+                    @BrazilianState(stateRegistration = true)
+                    public String shippingState;
+                    @StateRegistration
+                    public String registration;
+                }
+                """));
+        assertFalse(compilation.success);
+        assertTrue(compilation.errors(), compilation.errors().contains("More than one @BrazilianState"));
+    }
+
+    @Test
+    public void stateRegistrationWithoutStateIsACompileError() throws IOException {
+        Compilation compilation = compile(Map.of("Unlinked", """
+                package fixture;
+
+                import br.com.validations.annotation.*;
+
+                public class Unlinked {
+                    @StateRegistration
+                    public String registration;
+                }
+                """));
+        assertFalse(compilation.success);
+        assertTrue(compilation.errors(), compilation.errors().contains("no @StateRegistration(uf = ...)"));
+    }
+
+    @Test
+    public void targetValidationOnPrimitiveIsACompileError() throws IOException {
+        Compilation compilation = compile(Map.of("Primitive", """
+                package fixture;
+
+                import br.com.validations.annotation.*;
+
+                public class Primitive {
+                    @TargetValidation
+                    public int count;
+                }
+                """));
+        assertFalse(compilation.success);
+        assertTrue(compilation.errors(), compilation.errors().contains("@TargetValidation requires an object field"));
+    }
+
+    // Mesmos erros, na mesma ordem, e o mesmo isValid
+    private static void assertSame(ClassLoader loader, Object object, int errors) throws Exception {
+        Class<?> validator = loader.loadClass(object.getClass().getName() + "Validator");
+        Method validate = validator.getMethod("validate", object.getClass());
+        Method isValid = validator.getMethod("isValid", object.getClass());
+        ValidationResult expected = Validator.validate(object);
+        assertEquals(errors, expected.errors().size());
+        assertEquals(expected, validate.invoke(null, object));
+        assertEquals(expected.isValid(), isValid.invoke(null, object));
+    }
+
+    private static void set(Object object, String name, Object value) throws ReflectiveOperationException {
+        for (Class<?> type = object.getClass(); type != null; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.getName().equals(name)) {
+                    field.setAccessible(true);
+                    field.set(object, value);
+                    return;
+                }
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+
+    private static Compilation compile(Map<String, String> sources) throws IOException {
+        Path root = Files.createTempDirectory("validator-processor");
+        Path src = Files.createDirectories(root.resolve("src/fixture"));
+        Path out = Files.createDirectories(root.resolve("classes"));
+        List<File> files = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = src.resolve(source.getKey() + ".java");
+            Files.writeString(file, source.getValue());
+            files.add(file.toFile());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = List.of("-classpath", classpath(Validator.class), "-d", out.toString(),
+                    "-s", out.toString(), "-encoding", "UTF-8");
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(List.of(new ValidatorProcessor()));
+            boolean success = task.call();
+            return new Compilation(success, out, diagnostics.getDiagnostics());
+        }
+    }
+
+    // O surefire usa um jar só com manifesto, então o classpath vem da origem da classe
+    private static String classpath(Class<?> type) {
+        return new File(type.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath();
+    }
+
+    private record Compilation(boolean success, Path classes, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+        String errors() {
+            return diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .collect(Collectors.joining("\n"));
+        }
+
+        URLClassLoader loader() throws IOException {
+            return new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                    ValidatorProcessorTest.class.getClassLoader());
+        }
+
+    }
+
+}
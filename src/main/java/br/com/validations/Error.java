@@ -1,6 +0,0 @@
-package br.com.validations;
-
-public record Error(
-    String code,
-    String message
-) {}
@@ -0,0 +1,40 @@
+package br.com.validations;
+
+import java.util.concurrent.RecursiveAction;
+
+final class BatchValidation extends RecursiveAction {
+
+    private final Object[] objects;
+    private final ValidationResult[] results;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    BatchValidation(Object[] objects, ValidationResult[] results, int parallelism) {
+        // Algumas tarefas por worker deixam o work-stealing equilibrar lotes com objetos de custos diferentes
+        this(objects, results, 0, objects.length, Math.max(1, objects.length / (parallelism * 8)));
+    }
+
+    private BatchValidation(Object[] objects, ValidationResult[] results, int from, int to, int threshold) {
+        this.objects = objects;
+        this.results = results;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            // Cada tarefa escreve apenas nos seus próprios índices, sem estado compartilhado
+            for (int i = from; i < to; i++) {
+                results[i] = Validator.validate(objects[i]);
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new BatchValidation(objects, results, from, middle, threshold),
+                new BatchValidation(objects, results, middle, to, threshold));
+    }
+
+}
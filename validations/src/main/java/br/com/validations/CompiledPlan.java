@@ -0,0 +1,20 @@
+package br.com.validations;
+
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+// Classes ocultas geradas por PlanCompiler: test para na primeira violação; failures[c] devolve um bit por regra que
+// falhou no bloco c, e o bit b corresponde a rules[c * 64 + b]
+final class CompiledPlan {
+
+    static final CompiledPlan NONE = new CompiledPlan(null, null);
+
+    final Predicate<Object> test;
+    final ToLongFunction<Object>[] failures;
+
+    CompiledPlan(Predicate<Object> test, ToLongFunction<Object>[] failures) {
+        this.test = test;
+        this.failures = failures;
+    }
+
+}
@@ -0,0 +1,51 @@
+package br.com.validations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+// Compara as propriedades validadas com os valores de quando o objeto começou a ser acompanhado
+public final class DirtyTracker {
+
+    private final Object object;
+    private final ValidationPlan[] plans;
+    private final Object[] values;
+
+    DirtyTracker(Object object) {
+        this.object = Objects.requireNonNull(object, "object");
+        Collection<ValidationPlan> propertyPlans = ValidationPlan.of(object.getClass()).propertyPlans();
+        this.plans = propertyPlans.toArray(new ValidationPlan[0]);
+        this.values = new Object[plans.length];
+        for (int i = 0; i < plans.length; i++) {
+            values[i] = plans[i].property.value(object);
+        }
+    }
+
+    // Nomes das propriedades alteradas desde Validator.track
+    public List<String> changedProperties() {
+        List<String> changed = new ArrayList<>();
+        for (int i = 0; i < plans.length; i++) {
+            if (isChanged(values[i], plans[i].property.value(object))) {
+                changed.add(plans[i].property.name);
+            }
+        }
+        return changed;
+    }
+
+    public ValidationResult validateChanged() {
+        return Validator.validateProperties(object, changedProperties().toArray(new String[0]));
+    }
+
+    // Objetos mutáveis (aninhados, coleções, arrays) podem mudar sem trocar a referência, então são sempre revalidados
+    private static boolean isChanged(Object previous, Object current) {
+        return !isValue(current) || !Objects.equals(previous, current);
+    }
+
+    private static boolean isValue(Object value) {
+        return value == null || value instanceof String || value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte || value instanceof Character
+                || value instanceof Boolean || value instanceof Enum;
+    }
+
+}
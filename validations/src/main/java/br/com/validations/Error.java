@@ -0,0 +1,22 @@
+package br.com.validations;
+
+// path indica o campo que falhou a partir do objeto validado, por exemplo "endereco.cep" ou "itens[3].cpf"
+public record Error(
+    String code,
+    String message,
+    String path
+) {
+
+    public Error(String code, String message) {
+        this(code, message, null);
+    }
+
+    // Usado pelos validadores gerados para prefixar os erros de um objeto aninhado com o campo que o contém
+    public Error nestedIn(String field) {
+        if (path == null) {
+            return new Error(code, message, field);
+        }
+        return new Error(code, message, path.startsWith("[") ? field + path : field + "." + path);
+    }
+
+}
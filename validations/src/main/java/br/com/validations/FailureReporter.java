@@ -0,0 +1,30 @@
+package br.com.validations;
+
+import java.lang.System.Logger.Level;
+
+// Recebe cada regra que falhou em Validator.validate e Validator.target. O valor do campo não é repassado, para que
+// dados pessoais (CPF, e-mail, telefone) não cheguem aos logs
+@FunctionalInterface
+public interface FailureReporter {
+
+    FailureReporter NONE = (type, field, error) -> {
+    };
+
+    void report(Class<?> type, String field, Error error);
+
+    // Registra no System.Logger do Validator, montando a mensagem apenas se o nível estiver habilitado
+    static FailureReporter logging(Level level) {
+        return new LoggingFailureReporter(level);
+    }
+
+    // Repassa, em média, uma a cada "rate" falhas
+    static FailureReporter sampled(FailureReporter reporter, int rate) {
+        return new SampledFailureReporter(reporter, rate);
+    }
+
+    // Repassa no máximo "permitsPerSecond" falhas por segundo e descarta as demais
+    static FailureReporter rateLimited(FailureReporter reporter, int permitsPerSecond) {
+        return new RateLimitedFailureReporter(reporter, permitsPerSecond);
+    }
+
+}
@@ -0,0 +1,84 @@
+package br.com.validations;
+
+import java.lang.invoke.MethodHandle;
+
+import br.com.validations.enums.BrazilianStates;
+
+final class FieldRule {
+
+    final String name;
+    final MethodHandle getter;
+    final RuleType type;
+    final String code;
+    final String message;
+
+    // Atributos específicos de cada anotação
+    final int min;
+    final int max;
+    // Inscrição estadual: o campo de estado ligado a ela ou, na falta dele, o estado fixo da anotação
+    final FieldRule linkedState;
+    final BrazilianStates state;
+    // Vazio equivale a Group.Default
+    private final Class<? extends Group>[] groups;
+
+    FieldRule(String name, MethodHandle getter, RuleType type, String code, String message,
+            Class<? extends Group>[] groups) {
+        this(name, getter, type, code, message, groups, 0, Integer.MAX_VALUE, null, null);
+    }
+
+    FieldRule(String name, MethodHandle getter, RuleType type, String code, String message,
+            Class<? extends Group>[] groups, int min, int max, FieldRule linkedState, BrazilianStates state) {
+        this.name = name;
+        this.getter = getter;
+        this.type = type;
+        this.code = code;
+        this.message = message;
+        this.min = min;
+        this.max = max;
+        this.linkedState = linkedState;
+        this.state = state;
+        this.groups = groups;
+    }
+
+    // Um grupo pedido também seleciona as regras dos grupos que ele estende
+    boolean inGroups(Class<?>[] requested) {
+        for (Class<?> group : requested) {
+            if (groups.length == 0 && group == Group.Default.class) {
+                return true;
+            }
+            for (Class<? extends Group> ruleGroup : groups) {
+                if (ruleGroup.isAssignableFrom(group)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Valor da propriedade, com os primitivos em box
+    Object value(Object object) {
+        return getter.type().returnType() == long.class ? (Object) getLong(object) : get(object);
+    }
+
+    // Campos long primitivos têm getter do tipo (Object)long
+    long getLong(Object object) {
+        try {
+            return (long) getter.invokeExact(object);
+        } catch (RuntimeException | java.lang.Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    Object get(Object object) {
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (RuntimeException | java.lang.Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.com.validations;
+
+// Grupos de validação são interfaces que estendem Group; anotações sem groups pertencem a Default
+public interface Group {
+
+    interface Default extends Group {
+    }
+
+}
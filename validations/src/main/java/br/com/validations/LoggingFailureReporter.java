@@ -0,0 +1,23 @@
+package br.com.validations;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+
+final class LoggingFailureReporter implements FailureReporter {
+
+    private static final Logger LOGGER = System.getLogger(Validator.class.getName());
+
+    private final Level level;
+
+    LoggingFailureReporter(Level level) {
+        this.level = level;
+    }
+
+    @Override
+    public void report(Class<?> type, String field, Error error) {
+        if (LOGGER.isLoggable(level)) {
+            LOGGER.log(level, () -> type.getName() + "." + field + " failed " + error.code());
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package br.com.validations;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+// Posição de um objeto no grafo validado; o caminho em texto só é montado quando uma regra falha
+final class PathNode {
+
+    final Object value;
+    final int depth;
+    private final PathNode parent;
+    private final String field;
+    private final int index;
+    private final Object key;
+
+    private PathNode(Object value, int depth, PathNode parent, String field, int index, Object key) {
+        this.value = value;
+        this.depth = depth;
+        this.parent = parent;
+        this.field = field;
+        this.index = index;
+        this.key = key;
+    }
+
+    static PathNode root(Object value) {
+        return new PathNode(value, 0, null, null, -1, null);
+    }
+
+    // Objeto alcançado por um campo com @TargetValidation
+    PathNode field(Object value, String field) {
+        return new PathNode(value, depth + 1, this, field, -1, null);
+    }
+
+    // Elementos de coleções, arrays e mapas ficam na profundidade do contêiner
+    PathNode element(Object value, int index) {
+        return new PathNode(value, depth, this, null, index, null);
+    }
+
+    PathNode entry(Object value, Object key) {
+        return new PathNode(value, depth, this, null, -1, key);
+    }
+
+    String path(String name) {
+        if (parent == null) {
+            return name;
+        }
+        // Iterativo, como a própria travessia: grafos profundos não estouram a pilha ao montar o caminho
+        Deque<PathNode> nodes = new ArrayDeque<>();
+        for (PathNode node = this; node.parent != null; node = node.parent) {
+            nodes.push(node);
+        }
+        StringBuilder path = new StringBuilder();
+        for (PathNode node : nodes) {
+            if (node.field != null) {
+                if (path.length() > 0) {
+                    path.append('.');
+                }
+                path.append(node.field);
+            } else if (node.key != null) {
+                path.append('[').append(node.key).append(']');
+            } else {
+                path.append('[').append(node.index).append(']');
+            }
+        }
+        return path.append('.').append(name).toString();
+    }
+
+}
@@ -0,0 +1,549 @@
+package br.com.validations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup.ClassOption;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+// Gera, para um plano, uma classe oculta com as leituras dos campos e as chamadas às verificações em linha reta,
+// que o JIT consegue inlinear como código escrito à mão. Devolve null quando o plano não pode ser compilado (regras
+// @TargetValidation, membros inacessíveis ou módulos fechados) e a validação segue interpretada. Cada classe cobre
+// até 64 regras, um bit do long de failures por regra; planos maiores viram uma classe por bloco de 64.
+final class PlanCompiler {
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ICONST_0 = 0x03;
+    private static final int ICONST_1 = 0x04;
+    private static final int LCONST_0 = 0x09;
+    private static final int LDC_W = 0x13;
+    private static final int LDC2_W = 0x14;
+    private static final int LLOAD_3 = 0x21;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ASTORE_2 = 0x4d;
+    private static final int LSTORE_3 = 0x42;
+    private static final int LOR = 0x81;
+    private static final int IFEQ = 0x99;
+    private static final int IFNE = 0x9a;
+    private static final int IRETURN = 0xac;
+    private static final int LRETURN = 0xad;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int GETFIELD = 0xb4;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int CHECKCAST = 0xc0;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String STRING = "java/lang/String";
+    private static final String VALIDATOR = "br/com/validations/Validator";
+    private static final String CPF_CNPJ = "br/com/validations/document/CpfCnpj";
+    private static final String STATES = "br/com/validations/enums/BrazilianStates";
+
+    private PlanCompiler() {
+    }
+
+    static CompiledPlan compile(Class<?> type, FieldRule[] rules) {
+        if (rules.length == 0 || type.isHidden() || type.isArray()) {
+            return null;
+        }
+        Map<String, Member> members = new HashMap<>();
+        for (FieldRule rule : rules) {
+            if (rule.type == RuleType.TARGET || !resolve(type, rule, members)
+                    || rule.linkedState != null && !resolve(type, rule.linkedState, members)) {
+                return null;
+            }
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            Predicate<Object> test = null;
+            @SuppressWarnings("unchecked")
+            ToLongFunction<Object>[] failures = new ToLongFunction[(rules.length + Long.SIZE - 1) / Long.SIZE];
+            for (int chunk = 0; chunk < failures.length; chunk++) {
+                int from = chunk * Long.SIZE;
+                FieldRule[] chunkRules = Arrays.copyOfRange(rules, from, Math.min(rules.length, from + Long.SIZE));
+                byte[] bytes = new ClassFile(type, chunkRules, members).toBytes();
+                Object instance = newInstance(lookup.defineHiddenClass(bytes, true, ClassOption.NESTMATE));
+                @SuppressWarnings("unchecked")
+                Predicate<Object> chunkTest = (Predicate<Object>) instance;
+                @SuppressWarnings("unchecked")
+                ToLongFunction<Object> chunkFailures = (ToLongFunction<Object>) instance;
+                test = test == null ? chunkTest : test.and(chunkTest);
+                failures[chunk] = chunkFailures;
+            }
+            return new CompiledPlan(test, failures);
+        } catch (ReflectiveOperationException | IOException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static Object newInstance(MethodHandles.Lookup hidden) throws ReflectiveOperationException {
+        try {
+            return hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (RuntimeException | java.lang.Error | ReflectiveOperationException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Campo ou acessor lido pela regra, desde que a classe gerada (aninhada no tipo validado) tenha acesso a ele
+    private static boolean resolve(Class<?> type, FieldRule rule, Map<String, Member> members) {
+        if (members.containsKey(rule.name)) {
+            return true;
+        }
+        Member member = null;
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                if (component.getName().equals(rule.name)) {
+                    member = component.getAccessor();
+                }
+            }
+        } else {
+            for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (field.getName().equals(rule.name) && !Modifier.isStatic(field.getModifiers())) {
+                        if (member != null) {
+                            return false; // campo sombreado por uma subclasse: nome ambíguo
+                        }
+                        member = field;
+                    }
+                }
+            }
+        }
+        if (member == null || !isAccessible(type, member)) {
+            return false;
+        }
+        members.put(rule.name, member);
+        return true;
+    }
+
+    private static boolean isAccessible(Class<?> type, Member member) {
+        Class<?> owner = member.getDeclaringClass();
+        if (!Modifier.isPublic(owner.getModifiers()) && !isSamePackage(type, owner)) {
+            return false;
+        }
+        int modifiers = member.getModifiers();
+        if (Modifier.isPublic(modifiers)) {
+            return true;
+        }
+        if (Modifier.isPrivate(modifiers)) {
+            return owner.getNestHost() == type.getNestHost();
+        }
+        return isSamePackage(type, owner);
+    }
+
+    private static boolean isSamePackage(Class<?> type, Class<?> other) {
+        return type.getClassLoader() == other.getClassLoader()
+                && type.getPackageName().equals(other.getPackageName());
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static final class ClassFile {
+
+        private final FieldRule[] rules;
+        private final Map<String, Member> members;
+        private final ConstantPool pool = new ConstantPool();
+        private final int thisClass;
+        private final int targetClass;
+
+        ClassFile(Class<?> type, FieldRule[] rules, Map<String, Member> members) {
+            this.rules = rules;
+            this.members = members;
+            this.thisClass = pool.classRef(internalName(type) + "$$Plan");
+            this.targetClass = pool.classRef(internalName(type));
+        }
+
+        byte[] toBytes() throws IOException {
+            int superClass = pool.classRef(OBJECT);
+            int predicate = pool.classRef("java/util/function/Predicate");
+            int toLong = pool.classRef("java/util/function/ToLongFunction");
+            byte[] constructor = method(ACC_PUBLIC, "<init>", "()V", constructor());
+            byte[] test = method(ACC_PUBLIC, "test", "(Ljava/lang/Object;)Z", test());
+            byte[] failures = method(ACC_PUBLIC, "applyAsLong", "(Ljava/lang/Object;)J", failures());
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(61);
+            pool.writeTo(out);
+            out.writeShort(ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(2);
+            out.writeShort(predicate);
+            out.writeShort(toLong);
+            out.writeShort(0);
+            out.writeShort(3);
+            out.write(constructor);
+            out.write(test);
+            out.write(failures);
+            out.writeShort(0);
+            return bytes.toByteArray();
+        }
+
+        private Code constructor() {
+            Code code = new Code(1, 1);
+            code.op(ALOAD_0);
+            code.op(INVOKESPECIAL).u2(pool.methodRef(OBJECT, "<init>", "()V"));
+            code.op(RETURN);
+            return code;
+        }
+
+        // Para na primeira regra que falha
+        private Code test() {
+            Code code = new Code(6, 3);
+            code.op(ALOAD_1).op(CHECKCAST).u2(targetClass).op(ASTORE_2);
+            List<Integer> jumps = new ArrayList<>();
+            for (FieldRule rule : rules) {
+                check(code, rule);
+                jumps.add(code.length());
+                code.op(IFEQ).u2(0);
+            }
+            code.op(ICONST_1).op(IRETURN);
+            int fail = code.length();
+            for (int jump : jumps) {
+                code.patch(jump, fail - jump);
+            }
+            code.frame(fail);
+            code.op(ICONST_0).op(IRETURN);
+            return code;
+        }
+
+        // Bit i ligado quando rules[i] falha
+        private Code failures() {
+            Code code = new Code(6, 5);
+            code.op(ALOAD_1).op(CHECKCAST).u2(targetClass).op(ASTORE_2);
+            code.op(LCONST_0).op(LSTORE_3);
+            code.longLocal = true;
+            for (int i = 0; i < rules.length; i++) {
+                check(code, rules[i]);
+                int jump = code.length();
+                code.op(IFNE).u2(0);
+                code.op(LLOAD_3).op(LDC2_W).u2(pool.longConstant(1L << i)).op(LOR).op(LSTORE_3);
+                code.patch(jump, code.length() - jump);
+                code.frame(code.length());
+            }
+            code.op(LLOAD_3).op(LRETURN);
+            return code;
+        }
+
+        // Deixa na pilha o boolean da mesma verificação que Validator.passes faria
+        private void check(Code code, FieldRule rule) {
+            switch (rule.type) {
+                case BRAZILIAN_STATE -> {
+                    readString(code, rule);
+                    invokeStatic(code, VALIDATOR, "checkBrazilianState", "(Ljava/lang/String;)Z");
+                }
+                case CPF -> {
+                    readString(code, rule);
+                    invokeStatic(code, VALIDATOR, "checkCpf", "(Ljava/lang/String;)Z");
+                }
+                case CNPJ -> {
+                    readString(code, rule);
+                    invokeStatic(code, VALIDATOR, "checkCnpj", "(Ljava/lang/String;)Z");
+                }
+                case CPF_LONG -> {
+                    read(code, rule);
+                    invokeStatic(code, CPF_CNPJ, "isValidCpf", "(J)Z");
+                }
+                case CNPJ_LONG -> {
+                    read(code, rule);
+                    invokeStatic(code, CPF_CNPJ, "isValidCnpj", "(J)Z");
+                }
+                case CPF_NUMBER -> {
+                    read(code, rule);
+                    invokeStatic(code, VALIDATOR, "checkCpf", "(Ljava/lang/Long;)Z");
+                }
+                case CNPJ_NUMBER -> {
+                    read(code, rule);
+                    invokeStatic(code, VALIDATOR, "checkCnpj", "(Ljava/lang/Long;)Z");
+                }
+                case EMAIL -> {
+                    readString(code, rule);
+                    invokeStatic(code, VALIDATOR, "checkEmail", "(Ljava/lang/String;)Z");
+                }
+                case CEP -> {
+                    readString(code, rule);
+                    invokeStatic(code, VALIDATOR, "checkCep", "(Ljava/lang/String;)Z");
+                }
+                case PHONE -> {
+                    readString(code, rule);
+                    invokeStatic(code, VALIDATOR, "checkPhone", "(Ljava/lang/String;)Z");
+                }
+                case STATE_REGISTRATION -> {
+                    readString(code, rule);
+                    if (rule.linkedState == null) {
+                        String states = "L" + STATES + ";";
+                        code.op(GETSTATIC).u2(pool.fieldRef(STATES, rule.state.name(), states));
+                        invokeStatic(code, VALIDATOR, "checkStateRegistration", "(Ljava/lang/String;" + states + ")Z");
+                    } else {
+                        readString(code, rule.linkedState);
+                        invokeStatic(code, VALIDATOR, "checkStateRegistrationForState",
+                                "(Ljava/lang/String;Ljava/lang/String;)Z");
+                    }
+                }
+                case SIZE -> {
+                    read(code, rule);
+                    code.op(LDC_W).u2(pool.intConstant(rule.min));
+                    code.op(LDC_W).u2(pool.intConstant(rule.max));
+                    String value = valueType(rule) == String.class ? "Ljava/lang/String;" : "Ljava/lang/Object;";
+                    invokeStatic(code, VALIDATOR, "checkSize", "(" + value + "II)Z");
+                }
+                case NOT_NULL -> {
+                    read(code, rule);
+                    String value = valueType(rule) == String.class ? "Ljava/lang/String;" : "Ljava/lang/Object;";
+                    invokeStatic(code, VALIDATOR, "checkNotNull", "(" + value + ")Z");
+                }
+                case TARGET -> throw new IllegalStateException("@TargetValidation is not compiled");
+            }
+        }
+
+        private void read(Code code, FieldRule rule) {
+            Member member = members.get(rule.name);
+            String owner = internalName(member.getDeclaringClass());
+            String descriptor = valueType(rule).descriptorString();
+            code.op(ALOAD_2);
+            if (member instanceof Method) {
+                code.op(INVOKEVIRTUAL).u2(pool.methodRef(owner, member.getName(), "()" + descriptor));
+            } else {
+                code.op(GETFIELD).u2(pool.fieldRef(owner, member.getName(), descriptor));
+            }
+        }
+
+        // Campos de texto declarados como Object ou CharSequence recebem o mesmo cast de Validator.passes
+        private void readString(Code code, FieldRule rule) {
+            read(code, rule);
+            if (valueType(rule) != String.class) {
+                code.op(CHECKCAST).u2(pool.classRef(STRING));
+            }
+        }
+
+        private Class<?> valueType(FieldRule rule) {
+            Member member = members.get(rule.name);
+            return member instanceof Method method ? method.getReturnType() : ((Field) member).getType();
+        }
+
+        private void invokeStatic(Code code, String owner, String name, String descriptor) {
+            code.op(INVOKESTATIC).u2(pool.methodRef(owner, name, descriptor));
+        }
+
+        private byte[] method(int access, String name, String descriptor, Code code) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeShort(access);
+            out.writeShort(pool.utf8(name));
+            out.writeShort(pool.utf8(descriptor));
+            out.writeShort(1);
+            out.writeShort(pool.utf8("Code"));
+            byte[] frames = code.frames();
+            byte[] body = code.bytes.toByteArray();
+            int attributes = frames == null ? 0 : 8 + frames.length;
+            out.writeInt(12 + body.length + attributes);
+            out.writeShort(code.maxStack);
+            out.writeShort(code.maxLocals);
+            out.writeInt(body.length);
+            out.write(body);
+            out.writeShort(0);
+            if (frames == null) {
+                out.writeShort(0);
+            } else {
+                out.writeShort(1);
+                out.writeShort(pool.utf8("StackMapTable"));
+                out.writeInt(2 + frames.length);
+                out.writeShort(code.frameCount);
+                out.write(frames);
+            }
+            return bytes.toByteArray();
+        }
+
+        private final class Code {
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final int maxStack;
+            final int maxLocals;
+            // Depois de lconst_0/lstore_3, o quarto local (long) faz parte de todos os frames
+            boolean longLocal;
+            private final ByteArrayOutputStream frames = new ByteArrayOutputStream();
+            private int frameCount;
+            private int lastFrame = -1;
+
+            Code(int maxStack, int maxLocals) {
+                this.maxStack = maxStack;
+                this.maxLocals = maxLocals;
+            }
+
+            Code op(int opcode) {
+                bytes.write(opcode);
+                return this;
+            }
+
+            Code u2(int value) {
+                bytes.write(value >>> 8);
+                bytes.write(value);
+                return this;
+            }
+
+            int length() {
+                return bytes.size();
+            }
+
+            void patch(int jump, int offset) {
+                byte[] current = bytes.toByteArray();
+                current[jump + 1] = (byte) (offset >>> 8);
+                current[jump + 2] = (byte) offset;
+                bytes.reset();
+                bytes.write(current, 0, current.length);
+            }
+
+            // Todos os desvios chegam com a pilha vazia e os mesmos locais: this, o objeto, o objeto convertido
+            void frame(int offset) {
+                if (offset == lastFrame) {
+                    return;
+                }
+                int delta = lastFrame < 0 ? offset : offset - lastFrame - 1;
+                lastFrame = offset;
+                frameCount++;
+                frames.write(255);
+                frames.write(delta >>> 8);
+                frames.write(delta);
+                int locals = longLocal ? 4 : 3;
+                frames.write(0);
+                frames.write(locals);
+                objectLocal(thisClass);
+                objectLocal(pool.classRef(OBJECT));
+                objectLocal(targetClass);
+                if (longLocal) {
+                    frames.write(4);
+                }
+                frames.write(0);
+                frames.write(0);
+            }
+
+            private void objectLocal(int classIndex) {
+                frames.write(7);
+                frames.write(classIndex >>> 8);
+                frames.write(classIndex);
+            }
+
+            byte[] frames() {
+                return frameCount == 0 ? null : frames.toByteArray();
+            }
+
+        }
+
+    }
+
+    private static final class ConstantPool {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int next = 1;
+
+        int utf8(String value) {
+            return entry("U" + value, 1, () -> {
+                out.writeByte(1);
+                out.writeUTF(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int name = utf8(internalName);
+            return entry("C" + internalName, 1, () -> {
+                out.writeByte(7);
+                out.writeShort(name);
+            });
+        }
+
+        int intConstant(int value) {
+            return entry("I" + value, 1, () -> {
+                out.writeByte(3);
+                out.writeInt(value);
+            });
+        }
+
+        // Constantes long ocupam duas posições do pool
+        int longConstant(long value) {
+            return entry("J" + value, 2, () -> {
+                out.writeByte(5);
+                out.writeLong(value);
+            });
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(9, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(10, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            int ownerClass = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = entry("N" + name + ":" + descriptor, 1, () -> {
+                out.writeByte(12);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return entry(tag + owner + "." + name + ":" + descriptor, 1, () -> {
+                out.writeByte(tag);
+                out.writeShort(ownerClass);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        private int entry(String key, int size, Writer writer) {
+            Integer index = entries.get(key);
+            if (index != null) {
+                return index;
+            }
+            try {
+                writer.write();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            int current = next;
+            next += size;
+            entries.put(key, current);
+            return current;
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            target.writeShort(next);
+            bytes.writeTo(target);
+        }
+
+        @FunctionalInterface
+        private interface Writer {
+            void write() throws IOException;
+        }
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package br.com.validations;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class RateLimitedFailureReporter implements FailureReporter {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    private final FailureReporter reporter;
+    private final int permitsPerSecond;
+    // Início da janela atual e falhas já repassadas nela
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong reported = new AtomicLong();
+
+    RateLimitedFailureReporter(FailureReporter reporter, int permitsPerSecond) {
+        if (permitsPerSecond < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.reporter = reporter;
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    @Override
+    public void report(Class<?> type, String field, Error error) {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW && windowStart.compareAndSet(start, now)) {
+            reported.set(0);
+        }
+        // Depois de esgotada a janela só há leituras, sem escrita disputada entre as threads
+        if (reported.get() < permitsPerSecond && reported.incrementAndGet() <= permitsPerSecond) {
+            reporter.report(type, field, error);
+        }
+    }
+
+}
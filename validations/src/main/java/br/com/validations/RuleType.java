@@ -0,0 +1,21 @@
+package br.com.validations;
+
+enum RuleType {
+
+    TARGET,
+    BRAZILIAN_STATE,
+    CPF,
+    CNPJ,
+    // CPF/CNPJ em campos long (lidos sem boxing) e Long
+    CPF_LONG,
+    CNPJ_LONG,
+    CPF_NUMBER,
+    CNPJ_NUMBER,
+    EMAIL,
+    CEP,
+    STATE_REGISTRATION,
+    PHONE,
+    SIZE,
+    NOT_NULL
+
+}
@@ -0,0 +1,26 @@
+package br.com.validations;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+final class SampledFailureReporter implements FailureReporter {
+
+    private final FailureReporter reporter;
+    private final int rate;
+
+    SampledFailureReporter(FailureReporter reporter, int rate) {
+        if (rate < 1) {
+            throw new IllegalArgumentException("rate must be positive: " + rate);
+        }
+        this.reporter = reporter;
+        this.rate = rate;
+    }
+
+    @Override
+    public void report(Class<?> type, String field, Error error) {
+        // Amostragem aleatória: nenhum contador é compartilhado entre as threads que estão falhando
+        if (ThreadLocalRandom.current().nextInt(rate) == 0) {
+            reporter.report(type, field, error);
+        }
+    }
+
+}
@@ -0,0 +1,432 @@
+package br.com.validations;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.com.validations.annotation.BrazilianState;
+import br.com.validations.annotation.Cep;
+import br.com.validations.annotation.Cnpj;
+import br.com.validations.annotation.Cpf;
+import br.com.validations.annotation.Email;
+import br.com.validations.annotation.NotNull;
+import br.com.validations.annotation.Phone;
+import br.com.validations.annotation.Size;
+import br.com.validations.annotation.StateRegistration;
+import br.com.validations.annotation.TargetValidation;
+import br.com.validations.enums.BrazilianStates;
+import br.com.validations.exception.ValidationDefinitionException;
+
+final class ValidationPlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final Class<?>[] DEFAULT_GROUPS = { Group.Default.class };
+
+    // O plano guardado por classe é o do grupo Default; os demais ficam no mapa compartilhado por ele
+    private static final ClassValue<ValidationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ValidationPlan computeValue(Class<?> type) {
+            ValidationPlan plan = new ValidationPlan(build(type), DEFAULT_GROUPS, new ConcurrentHashMap<>());
+            plan.groupPlans.put(Group.Default.class, plan);
+            return plan;
+        }
+    };
+
+    final FieldRule[] rules;
+    // Verdadeiro quando algum campo tem @TargetValidation e a validação precisa percorrer o grafo
+    final boolean nested;
+    // Nos planos de uma propriedade, a regra usada para ler o valor dela
+    final FieldRule property;
+    private final FieldRule[] allRules;
+    private final Map<Object, ValidationPlan> groupPlans;
+    private final Map<String, ValidationPlan> propertyPlans;
+    // Classe gerada por PlanCompiler na primeira validação com Validator.setCompiledPlans(true)
+    private volatile CompiledPlan compiled;
+
+    private ValidationPlan(FieldRule[] allRules, Class<?>[] groups, Map<Object, ValidationPlan> groupPlans) {
+        List<FieldRule> rules = new ArrayList<>();
+        for (FieldRule rule : allRules) {
+            if (rule.inGroups(groups)) {
+                rules.add(rule);
+            }
+        }
+        this.rules = rules.toArray(new FieldRule[0]);
+        this.nested = isNested(this.rules);
+        this.property = null;
+        this.allRules = allRules;
+        this.groupPlans = groupPlans;
+        this.propertyPlans = propertyPlans(allRules, this.rules);
+    }
+
+    private ValidationPlan(FieldRule[] rules, FieldRule property) {
+        this.rules = rules;
+        this.nested = isNested(rules);
+        this.property = property;
+        this.allRules = rules;
+        this.groupPlans = null;
+        this.propertyPlans = null;
+    }
+
+    private static boolean isNested(FieldRule[] rules) {
+        for (FieldRule rule : rules) {
+            if (rule.type == RuleType.TARGET) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Uma propriedade é conhecida se tem regras em qualquer grupo, mesmo que nenhuma esteja neste plano
+    private static Map<String, ValidationPlan> propertyPlans(FieldRule[] allRules, FieldRule[] rules) {
+        Map<String, FieldRule> readers = new LinkedHashMap<>();
+        Map<String, List<FieldRule>> byName = new HashMap<>();
+        for (FieldRule rule : allRules) {
+            readers.putIfAbsent(rule.name, rule);
+            byName.putIfAbsent(rule.name, new ArrayList<>());
+        }
+        for (FieldRule rule : rules) {
+            byName.get(rule.name).add(rule);
+            // Mudar o estado muda o resultado da inscrição estadual ligada a ele
+            if (rule.linkedState != null) {
+                byName.get(rule.linkedState.name).add(rule);
+            }
+        }
+        Map<String, ValidationPlan> plans = new LinkedHashMap<>();
+        for (Map.Entry<String, FieldRule> reader : readers.entrySet()) {
+            FieldRule[] propertyRules = byName.get(reader.getKey()).toArray(new FieldRule[0]);
+            plans.put(reader.getKey(), new ValidationPlan(propertyRules, reader.getValue()));
+        }
+        return plans;
+    }
+
+    static ValidationPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    // Regras fora dos grupos pedidos não entram no plano, então não custam nada na validação
+    static ValidationPlan of(Class<?> type, Class<?>[] groups) {
+        ValidationPlan plan = PLANS.get(type);
+        if (groups.length == 0) {
+            return plan;
+        }
+        Object key = groups.length == 1 ? groups[0] : Set.copyOf(Arrays.asList(groups));
+        ValidationPlan groupPlan = plan.groupPlans.get(key);
+        if (groupPlan == null) {
+            groupPlan = plan.groupPlans.computeIfAbsent(key,
+                    k -> new ValidationPlan(plan.allRules, groups.clone(), plan.groupPlans));
+        }
+        return groupPlan;
+    }
+
+    // Os planos montados a cada chamada (várias propriedades) não são compilados, só os guardados em cache
+    CompiledPlan compiled(Class<?> type) {
+        CompiledPlan current = compiled;
+        if (current == null) {
+            boolean cached = groupPlans != null || property != null;
+            CompiledPlan generated = cached ? PlanCompiler.compile(type, rules) : null;
+            current = generated == null ? CompiledPlan.NONE : generated;
+            compiled = current;
+        }
+        return current == CompiledPlan.NONE ? null : current;
+    }
+
+    void discardCompiled() {
+        compiled = CompiledPlan.NONE;
+    }
+
+    Collection<ValidationPlan> propertyPlans() {
+        return propertyPlans.values();
+    }
+
+    ValidationPlan property(Class<?> type, String name) {
+        ValidationPlan plan = propertyPlans.get(name);
+        if (plan == null) {
+            throw new IllegalArgumentException(type.getName() + " has no validated property " + name);
+        }
+        return plan;
+    }
+
+    // Uma regra ligada a mais de uma das propriedades (inscrição estadual e estado) entra uma vez só
+    ValidationPlan properties(Class<?> type, String[] names) {
+        if (names.length == 1) {
+            return property(type, names[0]);
+        }
+        List<FieldRule> rules = new ArrayList<>();
+        for (String name : names) {
+            for (FieldRule rule : property(type, name).rules) {
+                if (!rules.contains(rule)) {
+                    rules.add(rule);
+                }
+            }
+        }
+        return new ValidationPlan(rules.toArray(new FieldRule[0]), null);
+    }
+
+    // Campo ou componente de record anotado, com o getter resolvido uma única vez
+    private record Property(String name, Class<?> type, AnnotatedElement element, MethodHandle getter) {
+
+        boolean has(Class<? extends Annotation> annotation) {
+            return element.isAnnotationPresent(annotation);
+        }
+
+        <A extends Annotation> A get(Class<A> annotation) {
+            return element.getAnnotation(annotation);
+        }
+
+    }
+
+    private static FieldRule[] build(Class<?> type) {
+        List<Property> properties = properties(type);
+
+        // Campos de estado resolvidos antes, usados pelas regras de inscrição estadual
+        List<FieldRule> states = new ArrayList<>();
+        List<FieldRule> registrationStates = new ArrayList<>();
+        for (Property property : properties) {
+            if (property.has(BrazilianState.class)) {
+                requireText(type, property, "@BrazilianState");
+                BrazilianState state = property.get(BrazilianState.class);
+                FieldRule rule = new FieldRule(property.name(), property.getter(), RuleType.BRAZILIAN_STATE,
+                        state.code(), state.message(), state.groups());
+                states.add(rule);
+                if (state.stateRegistration()) {
+                    registrationStates.add(rule);
+                }
+            }
+        }
+
+        List<FieldRule> rules = new ArrayList<>();
+        int stateIndex = 0;
+        for (Property property : properties) {
+            String name = property.name();
+            MethodHandle getter = property.getter();
+            if (property.has(TargetValidation.class)) {
+                requireReference(type, property, "@TargetValidation");
+                TargetValidation target = property.get(TargetValidation.class);
+                rules.add(new FieldRule(name, getter, RuleType.TARGET, target.code(), target.message(),
+                        target.groups()));
+            }
+            if (property.has(BrazilianState.class)) {
+                rules.add(states.get(stateIndex++));
+            } else if (property.has(Cpf.class)) {
+                Cpf cpf = property.get(Cpf.class);
+                RuleType rule = documentRule(type, property, "@Cpf", RuleType.CPF, RuleType.CPF_LONG,
+                        RuleType.CPF_NUMBER);
+                rules.add(new FieldRule(name, getter, rule, cpf.code(), cpf.message(), cpf.groups()));
+            } else if (property.has(Cnpj.class)) {
+                Cnpj cnpj = property.get(Cnpj.class);
+                RuleType rule = documentRule(type, property, "@Cnpj", RuleType.CNPJ, RuleType.CNPJ_LONG,
+                        RuleType.CNPJ_NUMBER);
+                rules.add(new FieldRule(name, getter, rule, cnpj.code(), cnpj.message(), cnpj.groups()));
+            } else if (property.has(Email.class)) {
+                requireText(type, property, "@Email");
+                Email email = property.get(Email.class);
+                rules.add(new FieldRule(name, getter, RuleType.EMAIL, email.code(), email.message(),
+                        email.groups()));
+            } else if (property.has(Cep.class)) {
+                requireText(type, property, "@Cep");
+                Cep cep = property.get(Cep.class);
+                rules.add(new FieldRule(name, getter, RuleType.CEP, cep.code(), cep.message(), cep.groups()));
+            } else if (property.has(StateRegistration.class)) {
+                requireText(type, property, "@StateRegistration");
+                StateRegistration registration = property.get(StateRegistration.class);
+                FieldRule linkedState = linkedState(type, name, registration, states, registrationStates);
+                BrazilianStates state = linkedState == null ? fixedState(type, name, registration) : null;
+                rules.add(new FieldRule(name, getter, RuleType.STATE_REGISTRATION, registration.code(),
+                        registration.message(), registration.groups(), 0, Integer.MAX_VALUE, linkedState, state));
+            } else if (property.has(Phone.class)) {
+                requireText(type, property, "@Phone");
+                Phone phone = property.get(Phone.class);
+                rules.add(new FieldRule(name, getter, RuleType.PHONE, phone.code(), phone.message(),
+                        phone.groups()));
+            } else if (property.has(Size.class)) {
+                requireSized(type, property);
+                Size size = property.get(Size.class);
+                rules.add(new FieldRule(name, getter, RuleType.SIZE, size.code(), size.message(), size.groups(),
+                        size.min(), size.max(), null, null));
+            }
+            if (property.has(NotNull.class)) {
+                requireReference(type, property, "@NotNull");
+                NotNull notNull = property.get(NotNull.class);
+                rules.add(new FieldRule(name, getter, RuleType.NOT_NULL, notNull.code(), notNull.message(),
+                        notNull.groups()));
+            }
+        }
+        return rules.toArray(new FieldRule[0]);
+    }
+
+    private static FieldRule linkedState(Class<?> type, String name, StateRegistration registration,
+            List<FieldRule> states, List<FieldRule> registrationStates) {
+        if (!registration.state().isEmpty()) {
+            FieldRule linked = null;
+            for (FieldRule state : states) {
+                if (state.name.equals(registration.state())) {
+                    linked = state;
+                }
+            }
+            if (linked == null) {
+                throw new ValidationDefinitionException(type.getName() + "." + name + ": @StateRegistration(state = \""
+                        + registration.state() + "\") does not name a @BrazilianState field");
+            }
+            return linked;
+        }
+        if (registrationStates.size() > 1) {
+            List<String> names = new ArrayList<>();
+            for (FieldRule state : registrationStates) {
+                names.add(state.name);
+            }
+            throw new ValidationDefinitionException(type.getName() + "." + name + ": more than one @BrazilianState(stateRegistration = true)"
+                    + " field " + names + "; choose one with @StateRegistration(state = ...)");
+        }
+        return registrationStates.isEmpty() ? null : registrationStates.get(0);
+    }
+
+    // Sem estado ligado nem uf explícita não há estado para a inscrição, em vez de supor um
+    private static BrazilianStates fixedState(Class<?> type, String name, StateRegistration registration) {
+        if (registration.uf().isEmpty()) {
+            throw new ValidationDefinitionException(type.getName() + "." + name
+                    + ": no @BrazilianState(stateRegistration = true) field and no @StateRegistration(uf = ...)");
+        }
+        BrazilianStates state = BrazilianStates.fromUf(registration.uf());
+        if (state == null) {
+            throw new ValidationDefinitionException(type.getName() + "." + name
+                    + ": no @BrazilianState(stateRegistration = true) field and @StateRegistration(uf = \""
+                    + registration.uf() + "\") is not a valid UF");
+        }
+        return state;
+    }
+
+    // Tipos aceitos por cada anotação, verificados ao montar o plano em vez de um ClassCastException na validação
+    private static RuleType documentRule(Class<?> type, Property property, String annotation, RuleType text,
+            RuleType primitive, RuleType boxed) {
+        if (property.type() == long.class) {
+            return primitive;
+        }
+        if (property.type() == Long.class) {
+            return boxed;
+        }
+        requireText(type, property, annotation);
+        return text;
+    }
+
+    // Exatamente String: as verificações recebem String, então Object ou CharSequence passariam aqui e quebrariam no
+    // cast durante a validação
+    private static void requireText(Class<?> type, Property property, String annotation) {
+        if (property.type() != String.class) {
+            throw unsupported(type, property, annotation);
+        }
+    }
+
+    private static void requireReference(Class<?> type, Property property, String annotation) {
+        if (property.type().isPrimitive()) {
+            throw unsupported(type, property, annotation);
+        }
+    }
+
+    private static void requireSized(Class<?> type, Property property) {
+        Class<?> propertyType = property.type();
+        boolean sized = CharSequence.class.isAssignableFrom(propertyType)
+                || Collection.class.isAssignableFrom(propertyType) || Map.class.isAssignableFrom(propertyType)
+                || propertyType.isArray() || propertyType == Object.class;
+        if (!sized) {
+            throw unsupported(type, property, "@Size");
+        }
+    }
+
+    private static ValidationDefinitionException unsupported(Class<?> type, Property property, String annotation) {
+        return new ValidationDefinitionException(type.getName() + "." + property.name() + ": " + annotation
+                + " does not apply to " + property.type().getName());
+    }
+
+    // Records são lidos pelos acessores dos componentes; classes, pelos campos de toda a hierarquia
+    private static List<Property> properties(Class<?> type) {
+        List<Property> properties = new ArrayList<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                properties.add(new Property(component.getName(), component.getType(), component,
+                        isAnnotated(component) ? accessor(component) : null));
+            }
+            return properties;
+        }
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                properties.add(new Property(field.getName(), field.getType(), field,
+                        isAnnotated(field) ? getter(field) : null));
+            }
+        }
+        return properties;
+    }
+
+    private static boolean isAnnotated(AnnotatedElement element) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            if (annotation.annotationType().getPackage() == TargetValidation.class.getPackage()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // setAccessible só quando necessário: membros públicos de tipos públicos funcionam mesmo em pacotes não abertos
+    private static MethodHandle getter(Field field) {
+        if (!isPublic(field.getModifiers(), field.getDeclaringClass())) {
+            field.trySetAccessible();
+        }
+        try {
+            return MethodHandles.lookup().unreflectGetter(field).asType(getterType(field.getType()));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access field " + field, e);
+        }
+    }
+
+    private static MethodHandle accessor(RecordComponent component) {
+        Method accessor = component.getAccessor();
+        if (!isPublic(accessor.getModifiers(), component.getDeclaringRecord())) {
+            accessor.trySetAccessible();
+        }
+        try {
+            return MethodHandles.lookup().unreflect(accessor).asType(getterType(component.getType()));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access record component " + component.getDeclaringRecord()
+                    .getName() + "." + component.getName(), e);
+        }
+    }
+
+    // Primitivos mantêm o tipo de retorno, para serem lidos sem boxing
+    private static MethodType getterType(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type, Object.class) : GETTER_TYPE;
+    }
+
+    private static boolean isPublic(int modifiers, Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return Modifier.isPublic(modifiers);
+    }
+
+}
@@ -0,0 +1,17 @@
+package br.com.validations;
+
+import java.util.List;
+
+public record ValidationResult(
+    List<Error> errors
+) {
+
+    public ValidationResult {
+        errors = List.copyOf(errors);
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+}
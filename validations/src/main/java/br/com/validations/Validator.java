@@ -0,0 +1,457 @@
+package br.com.validations;
+
+import java.lang.System.Logger.Level;
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import br.com.validations.document.CpfCnpj;
+import br.com.validations.document.InscricaoEstadual;
+import br.com.validations.enums.BrazilianStates;
+import br.com.validations.exception.ValidationException;
+import br.com.validations.format.Formats;
+
+public class Validator {
+
+    private static volatile FailureReporter failureReporter = FailureReporter.logging(Level.WARNING);
+    private static volatile int maxDepth = 64;
+    private static volatile boolean compiledPlans;
+    private static final Class<?>[] NO_GROUPS = {};
+
+    // FailureReporter.NONE desliga o registro por campo; sampled/rateLimited limitam o volume em cargas ruins
+    public static void setFailureReporter(FailureReporter reporter) {
+        failureReporter = Objects.requireNonNull(reporter, "reporter");
+    }
+
+    // Quantos níveis de @TargetValidation são seguidos; além disso o campo falha com o erro da própria anotação
+    public static void setMaxDepth(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must not be negative: " + depth);
+        }
+        maxDepth = depth;
+    }
+
+    // Gera em tempo de execução uma classe por plano, com leituras de campo e chamadas diretas às verificações;
+    // planos que não podem ser compilados continuam interpretados
+    public static void setCompiledPlans(boolean enabled) {
+        compiledPlans = enabled;
+    }
+
+    public static void target(Object object) throws ValidationException {
+        throwIfInvalid(validate(object));
+    }
+
+    // Só as regras dos grupos informados, inclusive nos objetos aninhados; sem grupos, vale Group.Default
+    @SafeVarargs
+    public static void target(Object object, Class<? extends Group>... groups) throws ValidationException {
+        throwIfInvalid(validate(object, groups));
+    }
+
+    private static void throwIfInvalid(ValidationResult result) throws ValidationException {
+        if (!result.isValid()) {
+            throw new ValidationException(result.errors());
+        }
+    }
+
+    public static ValidationResult validate(Object object) {
+        return collect(object, NO_GROUPS);
+    }
+
+    @SafeVarargs
+    public static ValidationResult validate(Object object, Class<? extends Group>... groups) {
+        return collect(object, groups);
+    }
+
+    private static ValidationResult collect(Object object, Class<?>[] groups) {
+        List<Error> errors = new ArrayList<>();
+        walk(object, ValidationPlan.of(object.getClass(), groups), groups, errors);
+        return new ValidationResult(errors);
+    }
+
+    // Para na primeira violação, sem criar Error, registrar log ou lançar exceção
+    public static boolean isValid(Object object) {
+        return walk(object, ValidationPlan.of(object.getClass()), NO_GROUPS, null);
+    }
+
+    @SafeVarargs
+    public static boolean isValid(Object object, Class<? extends Group>... groups) {
+        return walk(object, ValidationPlan.of(object.getClass(), groups), groups, null);
+    }
+
+    // Só as regras das propriedades informadas, como os campos alterados em um PATCH; o plano de cada uma é
+    // encontrado pelo nome, sem percorrer as demais regras da classe
+    public static ValidationResult validateProperties(Object object, String... properties) {
+        List<Error> errors = new ArrayList<>();
+        if (properties.length > 0) {
+            ValidationPlan plan = ValidationPlan.of(object.getClass()).properties(object.getClass(), properties);
+            walk(object, plan, NO_GROUPS, errors);
+        }
+        return new ValidationResult(errors);
+    }
+
+    // Guarda os valores atuais das propriedades validadas; DirtyTracker.validateChanged valida só as alteradas
+    public static DirtyTracker track(Object object) {
+        return new DirtyTracker(object);
+    }
+
+    // O resultado de cada objeto fica no mesmo índice que ele ocupa na coleção; elementos nulos são rejeitados
+    // antes de começar, com o índice na mensagem
+    public static List<ValidationResult> validateAll(Collection<?> objects) {
+        return validateAll(objects.toArray(), ForkJoinPool.commonPool());
+    }
+
+    // Cria e encerra um ForkJoinPool a cada chamada; para lotes repetidos, reaproveite um pool com a sobrecarga
+    // que recebe o ForkJoinPool
+    public static List<ValidationResult> validateAll(Collection<?> objects, int parallelism) {
+        return validateAll(objects.toArray(), parallelism);
+    }
+
+    public static List<ValidationResult> validateAll(Collection<?> objects, ForkJoinPool pool) {
+        return validateAll(objects.toArray(), pool);
+    }
+
+    public static List<ValidationResult> validateAll(Stream<?> objects) {
+        return validateAll(objects.toArray(), ForkJoinPool.commonPool());
+    }
+
+    // Também cria um ForkJoinPool por chamada, como a sobrecarga de Collection
+    public static List<ValidationResult> validateAll(Stream<?> objects, int parallelism) {
+        return validateAll(objects.toArray(), parallelism);
+    }
+
+    private static List<ValidationResult> validateAll(Object[] objects, int parallelism) {
+        requireElements(objects);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return invokeAll(objects, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<ValidationResult> validateAll(Object[] objects, ForkJoinPool pool) {
+        requireElements(objects);
+        return invokeAll(objects, pool);
+    }
+
+    // Dentro da tarefa o NullPointerException chegaria sem dizer qual elemento era nulo
+    private static void requireElements(Object[] objects) {
+        for (int i = 0; i < objects.length; i++) {
+            if (objects[i] == null) {
+                throw new NullPointerException("Element " + i + " of the batch is null");
+            }
+        }
+    }
+
+    private static List<ValidationResult> invokeAll(Object[] objects, ForkJoinPool pool) {
+        ValidationResult[] results = new ValidationResult[objects.length];
+        pool.invoke(new BatchValidation(objects, results, pool.getParallelism()));
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    // Percorre o grafo em largura, sem recursão; com errors nulo para na primeira violação
+    private static boolean walk(Object root, ValidationPlan plan, Class<?>[] groups, List<Error> errors) {
+        FailureReporter reporter = failureReporter;
+        if (!plan.nested && !isContainer(root)) {
+            return validateFields(root, plan, null, null, errors, reporter, 0);
+        }
+
+        int depthLimit = maxDepth;
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<PathNode> pending = new ArrayDeque<>();
+        PathNode rootNode = PathNode.root(root);
+        pending.add(rootNode);
+        boolean valid = true;
+        while (!pending.isEmpty()) {
+            PathNode node = pending.poll();
+            Object value = node.value;
+            if (isContainer(value)) {
+                if (visited.add(value)) {
+                    enqueueElements(node, pending);
+                }
+                continue;
+            }
+            ValidationPlan valuePlan = node == rootNode ? plan : ValidationPlan.of(value.getClass(), groups);
+            // Só objetos que levam a outros objetos podem fechar um ciclo
+            if (valuePlan.nested && !visited.add(value)) {
+                continue;
+            }
+            if (!validateFields(value, valuePlan, node, pending, errors, reporter, depthLimit)) {
+                if (errors == null) {
+                    return false;
+                }
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private static boolean isContainer(Object value) {
+        return value instanceof Collection || value instanceof Map || value instanceof Object[];
+    }
+
+    private static void enqueueElements(PathNode node, Deque<PathNode> pending) {
+        if (node.value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getValue() != null) {
+                    pending.add(node.entry(entry.getValue(), entry.getKey()));
+                }
+            }
+        } else if (node.value instanceof Collection<?> collection) {
+            int index = 0;
+            for (Object element : collection) {
+                if (element != null) {
+                    pending.add(node.element(element, index));
+                }
+                index++;
+            }
+        } else {
+            Object[] array = (Object[]) node.value;
+            for (int i = 0; i < array.length; i++) {
+                if (array[i] != null) {
+                    pending.add(node.element(array[i], i));
+                }
+            }
+        }
+    }
+
+    private static boolean validateFields(Object object, ValidationPlan plan, PathNode node,
+            Deque<PathNode> pending, List<Error> errors, FailureReporter reporter, int depthLimit) {
+        if (compiledPlans) {
+            CompiledPlan compiled = plan.compiled(object.getClass());
+            if (compiled != null) {
+                try {
+                    return validateCompiled(object, plan, compiled, node, errors, reporter);
+                } catch (LinkageError e) {
+                    // Os campos e métodos da classe gerada só são resolvidos na primeira chamada; se algum falhar
+                    // (NoSuchFieldError, IllegalAccessError), o plano volta a ser interpretado
+                    plan.discardCompiled();
+                }
+            }
+        }
+        boolean valid = true;
+        for (FieldRule rule : plan.rules) {
+            boolean passed = rule.type == RuleType.TARGET
+                    ? enqueueTarget(rule, object, node, pending, depthLimit)
+                    : passes(rule, object);
+            if (!passed) {
+                if (errors == null) {
+                    return false;
+                }
+                fail(rule, object, node, errors, reporter);
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    // Planos compilados não têm @TargetValidation, então nada é enfileirado
+    private static boolean validateCompiled(Object object, ValidationPlan plan, CompiledPlan compiled, PathNode node,
+            List<Error> errors, FailureReporter reporter) {
+        if (errors == null) {
+            return compiled.test.test(object);
+        }
+        boolean valid = true;
+        for (int chunk = 0; chunk < compiled.failures.length; chunk++) {
+            long failures = compiled.failures[chunk].applyAsLong(object);
+            int offset = chunk * Long.SIZE;
+            for (long pending = failures; pending != 0; pending &= pending - 1) {
+                fail(plan.rules[offset + Long.numberOfTrailingZeros(pending)], object, node, errors, reporter);
+            }
+            valid &= failures == 0;
+        }
+        return valid;
+    }
+
+    private static boolean enqueueTarget(FieldRule rule, Object object, PathNode node, Deque<PathNode> pending,
+            int depthLimit) {
+        Object nested = rule.get(object);
+        if (nested == null) {
+            return true;
+        }
+        if (node.depth >= depthLimit) {
+            return false;
+        }
+        pending.add(node.field(nested, rule.name));
+        return true;
+    }
+
+    private static boolean passes(FieldRule rule, Object object) {
+        return switch (rule.type) {
+            case TARGET -> true; // tratado em validateFields
+            case BRAZILIAN_STATE -> checkBrazilianState((String) rule.get(object));
+            case CPF -> checkCpf((String) rule.get(object));
+            case CNPJ -> checkCnpj((String) rule.get(object));
+            case CPF_LONG -> CpfCnpj.isValidCpf(rule.getLong(object));
+            case CNPJ_LONG -> CpfCnpj.isValidCnpj(rule.getLong(object));
+            case CPF_NUMBER -> checkCpf((Long) rule.get(object));
+            case CNPJ_NUMBER -> checkCnpj((Long) rule.get(object));
+            case EMAIL -> checkEmail((String) rule.get(object));
+            case CEP -> checkCep((String) rule.get(object));
+            case STATE_REGISTRATION -> rule.linkedState == null
+                    ? checkStateRegistration((String) rule.get(object), rule.state)
+                    : checkStateRegistrationForState((String) rule.get(object), (String) rule.linkedState.get(object));
+            case PHONE -> checkPhone((String) rule.get(object));
+            case SIZE -> checkSize(rule.get(object), rule.min, rule.max);
+            case NOT_NULL -> checkNotNull(rule.get(object));
+        };
+    }
+
+    private static void fail(FieldRule rule, Object object, PathNode node, List<Error> errors,
+            FailureReporter reporter) {
+        Error error = new Error(rule.code, rule.message, node == null ? rule.name : node.path(rule.name));
+        errors.add(error);
+        reporter.report(object.getClass(), rule.name, error);
+    }
+
+    public static boolean checkSize(String value, int min, int max) {
+        if (value != null && !value.isBlank()) {
+            return value.length() >= min && value.length() <= max;
+        }
+        return true;
+    }
+
+    // Tamanho de CharSequence, coleção, mapa ou array (inclusive de primitivos, sem boxing)
+    public static boolean checkSize(Object value, int min, int max) {
+        if (value == null) {
+            return true;
+        }
+        int size;
+        if (value instanceof CharSequence text) {
+            if (isBlank(text)) {
+                return true;
+            }
+            size = text.length();
+        } else if (value instanceof Collection<?> collection) {
+            size = collection.size();
+        } else if (value instanceof Map<?, ?> map) {
+            size = map.size();
+        } else if (value.getClass().isArray()) {
+            size = Array.getLength(value);
+        } else {
+            throw new IllegalArgumentException("@Size does not apply to " + value.getClass().getName());
+        }
+        return size >= min && size <= max;
+    }
+
+    public static boolean checkPhone(String value) {
+        if (value != null && !value.isBlank()) {
+            return Formats.isPhone(value);
+        }
+        return true;
+    }
+
+    public static boolean checkCpf(String cpf) {
+        if (cpf != null && !cpf.isBlank()) {
+            return CpfCnpj.isValidCpf(cpf);
+        }
+        return true;
+    }
+
+    public static boolean checkCpf(long cpf) {
+        return CpfCnpj.isValidCpf(cpf);
+    }
+
+    public static boolean checkCpf(Long cpf) {
+        return cpf == null || CpfCnpj.isValidCpf(cpf.longValue());
+    }
+
+    public static boolean checkEmail(String email) {
+        if (email != null && !email.isBlank()) {
+            return Formats.isEmail(email);
+        }
+        return true;
+    }
+
+    public static boolean checkCep(String cep) {
+        if (cep != null && !cep.isBlank()) {
+            return Formats.isCep(cep);
+        }
+        return true;
+    }
+
+    public static boolean checkNotNull(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    // Textos em branco contam como vazios; para os demais tipos basta não ser nulo
+    public static boolean checkNotNull(Object value) {
+        if (value instanceof CharSequence text) {
+            return !isBlank(text);
+        }
+        return value != null;
+    }
+
+    private static boolean isBlank(CharSequence text) {
+        if (text instanceof String string) {
+            return string.isBlank();
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean checkCnpj(String cnpj) {
+        if (cnpj != null && !cnpj.isBlank()) {
+            return CpfCnpj.isValidCnpj(cnpj);
+        }
+        return true;
+    }
+
+    public static boolean checkCnpj(long cnpj) {
+        return CpfCnpj.isValidCnpj(cnpj);
+    }
+
+    public static boolean checkCnpj(Long cnpj) {
+        return cnpj == null || CpfCnpj.isValidCnpj(cnpj.longValue());
+    }
+
+    public static boolean checkBrazilianState(String state) {
+        if (state != null && !state.isBlank()) {
+            return BrazilianStates.fromName(state) != null;
+        }
+        return true;
+    }
+
+    public static boolean checkStateRegistration(String value, String uf) {
+        if (value != null && !value.isBlank()) {
+            return validaInscricaoEstadual(value, uf);
+        }
+        return true;
+    }
+
+    public static boolean checkStateRegistration(String value, BrazilianStates state) {
+        if (value != null && !value.isBlank()) {
+            return InscricaoEstadual.isValid(value, state);
+        }
+        return true;
+    }
+
+    public static boolean checkStateRegistrationForState(String value, String state) {
+        if (value != null && !value.isBlank() && state != null && !state.isBlank()) {
+            BrazilianStates brazilianState = BrazilianStates.fromName(state);
+            return brazilianState != null && InscricaoEstadual.isValid(value, brazilianState);
+        }
+        return true;
+    }
+
+    private static boolean validaInscricaoEstadual(String inscricaoEstadual, String siglaUf) {
+        BrazilianStates state = BrazilianStates.fromUf(siglaUf);
+        return state != null && InscricaoEstadual.isValid(inscricaoEstadual, state);
+    }
+
+}
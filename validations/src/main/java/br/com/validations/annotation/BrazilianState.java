@@ -5,12 +5,15 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-@Target(ElementType.FIELD)
+import br.com.validations.Group;
+
+@Target({ ElementType.FIELD, ElementType.RECORD_COMPONENT })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface BrazilianState {
     
     String message() default "Estado inválido";
     String code() default "Brazilian State Annotation";
+    Class<? extends Group>[] groups() default {};
     boolean stateRegistration() default false;
     
 }
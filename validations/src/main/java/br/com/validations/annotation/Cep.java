@@ -5,10 +5,13 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-@Target(ElementType.FIELD)
+import br.com.validations.Group;
+
+@Target({ ElementType.FIELD, ElementType.RECORD_COMPONENT })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Cep {
     
     String message() default "Cep inválido";
     String code() default "Cep Annotation";
+    Class<? extends Group>[] groups() default {};
 }
@@ -5,11 +5,14 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-@Target(ElementType.FIELD)
+import br.com.validations.Group;
+
+@Target({ ElementType.FIELD, ElementType.RECORD_COMPONENT })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Cpf {
     
     String message() default "Cpf inválido";
     String code() default "Cpf Annotation";
+    Class<? extends Group>[] groups() default {};
     
 }
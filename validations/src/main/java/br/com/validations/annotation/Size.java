@@ -5,7 +5,9 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-@Target(ElementType.FIELD)
+import br.com.validations.Group;
+
+@Target({ ElementType.FIELD, ElementType.RECORD_COMPONENT })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Size {
     
@@ -14,5 +16,6 @@ public @interface Size {
 
     String message() default "Tamanho inválido";
     String code() default "Size Annotation";
+    Class<? extends Group>[] groups() default {};
 
 }
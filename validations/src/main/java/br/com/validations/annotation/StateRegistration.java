@@ -0,0 +1,22 @@
+package br.com.validations.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import br.com.validations.Group;
+
+@Target({ ElementType.FIELD, ElementType.RECORD_COMPONENT })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StateRegistration {
+    
+    String message() default "Inscricão estadual inválida";
+    String code() default "State Registration Annotation";
+    Class<? extends Group>[] groups() default {};
+    // Estado fixo, usado só quando a classe não tem campo @BrazilianState ligado à inscrição; vazio é não informado
+    String uf() default "";
+    // Nome do campo @BrazilianState com o estado da inscrição; obrigatório quando há mais de um com stateRegistration = true
+    String state() default "";
+    
+}
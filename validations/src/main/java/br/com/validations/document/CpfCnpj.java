@@ -0,0 +1,173 @@
+package br.com.validations.document;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+public final class CpfCnpj {
+
+    // Também usados pelas verificações em lote de CpfCnpjBulk
+    static final int CPF_LENGTH = 11;
+    static final int CNPJ_LENGTH = 14;
+    static final long CPF_LIMIT = 100_000_000_000L;
+    static final long CNPJ_LIMIT = 100_000_000_000_000L;
+
+    static final int[] CPF_FIRST_WEIGHTS = { 10, 9, 8, 7, 6, 5, 4, 3, 2 };
+    static final int[] CPF_SECOND_WEIGHTS = { 11, 10, 9, 8, 7, 6, 5, 4, 3, 2 };
+    static final int[] CNPJ_FIRST_WEIGHTS = { 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 };
+    static final int[] CNPJ_SECOND_WEIGHTS = { 6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 };
+
+    private CpfCnpj() {
+    }
+
+    // Caracteres não numéricos (máscara) são ignorados
+    public static boolean isValidCpf(CharSequence value) {
+        return isValid(value, CPF_LENGTH, CPF_FIRST_WEIGHTS, CPF_SECOND_WEIGHTS);
+    }
+
+    public static boolean isValidCnpj(CharSequence value) {
+        return isValid(value, CNPJ_LENGTH, CNPJ_FIRST_WEIGHTS, CNPJ_SECOND_WEIGHTS);
+    }
+
+    // Documento guardado como número: os zeros à esquerda ficam implícitos
+    public static boolean isValidCpf(long value) {
+        return isValid(value, CPF_LIMIT, CPF_LENGTH, CPF_FIRST_WEIGHTS, CPF_SECOND_WEIGHTS);
+    }
+
+    public static boolean isValidCnpj(long value) {
+        return isValid(value, CNPJ_LIMIT, CNPJ_LENGTH, CNPJ_FIRST_WEIGHTS, CNPJ_SECOND_WEIGHTS);
+    }
+
+    // Documento em bytes ASCII (buffer de rede, arquivo), validado direto no array sem decodificar para String;
+    // como no CharSequence, a máscara é ignorada
+    public static boolean isValidCpf(byte[] value, int offset, int length) {
+        return isValid(value, offset, length, CPF_LENGTH, CPF_FIRST_WEIGHTS, CPF_SECOND_WEIGHTS);
+    }
+
+    public static boolean isValidCnpj(byte[] value, int offset, int length) {
+        return isValid(value, offset, length, CNPJ_LENGTH, CNPJ_FIRST_WEIGHTS, CNPJ_SECOND_WEIGHTS);
+    }
+
+    // Lê por índice absoluto, sem mudar a posição do buffer
+    public static boolean isValidCpf(ByteBuffer value, int offset, int length) {
+        return isValid(value, offset, length, CPF_LENGTH, CPF_FIRST_WEIGHTS, CPF_SECOND_WEIGHTS);
+    }
+
+    public static boolean isValidCnpj(ByteBuffer value, int offset, int length) {
+        return isValid(value, offset, length, CNPJ_LENGTH, CNPJ_FIRST_WEIGHTS, CNPJ_SECOND_WEIGHTS);
+    }
+
+    static boolean isValid(long value, long limit, int length, int[] firstWeights, int[] secondWeights) {
+        if (value < 0 || value >= limit) {
+            return false;
+        }
+        int secondDigit = (int) (value % 10);
+        value /= 10;
+        int firstDigit = (int) (value % 10);
+        value /= 10;
+        int first = 0;
+        int second = firstDigit * secondWeights[length - 2];
+        for (int i = length - 3; i >= 0; i--) {
+            int digit = (int) (value % 10);
+            value /= 10;
+            first += digit * firstWeights[i];
+            second += digit * secondWeights[i];
+        }
+        return firstDigit == checkDigit(first) && secondDigit == checkDigit(second);
+    }
+
+    private static boolean isValid(CharSequence value, int length, int[] firstWeights, int[] secondWeights) {
+        int count = 0;
+        int first = 0;
+        int second = 0;
+        int firstDigit = 0;
+        int secondDigit = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                continue;
+            }
+            int digit = c - '0';
+            if (count < length - 2) {
+                first += digit * firstWeights[count];
+                second += digit * secondWeights[count];
+            } else if (count == length - 2) {
+                firstDigit = digit;
+                second += digit * secondWeights[count];
+            } else if (count == length - 1) {
+                secondDigit = digit;
+            } else {
+                return false;
+            }
+            count++;
+        }
+        return count == length && firstDigit == checkDigit(first) && secondDigit == checkDigit(second);
+    }
+
+    // O mesmo laço do CharSequence, lendo os bytes direto
+    private static boolean isValid(byte[] value, int offset, int size, int length, int[] firstWeights,
+            int[] secondWeights) {
+        Objects.checkFromIndexSize(offset, size, value.length);
+        int count = 0;
+        int first = 0;
+        int second = 0;
+        int firstDigit = 0;
+        int secondDigit = 0;
+        for (int i = offset; i < offset + size; i++) {
+            int digit = value[i] - '0';
+            if (digit < 0 || digit > 9) {
+                continue;
+            }
+            if (count < length - 2) {
+                first += digit * firstWeights[count];
+                second += digit * secondWeights[count];
+            } else if (count == length - 2) {
+                firstDigit = digit;
+                second += digit * secondWeights[count];
+            } else if (count == length - 1) {
+                secondDigit = digit;
+            } else {
+                return false;
+            }
+            count++;
+        }
+        return count == length && firstDigit == checkDigit(first) && secondDigit == checkDigit(second);
+    }
+
+    private static boolean isValid(ByteBuffer value, int offset, int size, int length, int[] firstWeights,
+            int[] secondWeights) {
+        Objects.checkFromIndexSize(offset, size, value.limit());
+        if (value.hasArray()) {
+            return isValid(value.array(), value.arrayOffset() + offset, size, length, firstWeights, secondWeights);
+        }
+        int count = 0;
+        int first = 0;
+        int second = 0;
+        int firstDigit = 0;
+        int secondDigit = 0;
+        for (int i = offset; i < offset + size; i++) {
+            int digit = value.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                continue;
+            }
+            if (count < length - 2) {
+                first += digit * firstWeights[count];
+                second += digit * secondWeights[count];
+            } else if (count == length - 2) {
+                firstDigit = digit;
+                second += digit * secondWeights[count];
+            } else if (count == length - 1) {
+                secondDigit = digit;
+            } else {
+                return false;
+            }
+            count++;
+        }
+        return count == length && firstDigit == checkDigit(first) && secondDigit == checkDigit(second);
+    }
+
+    static int checkDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+}
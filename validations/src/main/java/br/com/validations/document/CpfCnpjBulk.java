@@ -0,0 +1,109 @@
+package br.com.validations.document;
+
+import java.util.BitSet;
+
+// Validação em lote de colunas de documentos (conciliação, cargas), sem um objeto por documento. O bit i do
+// resultado indica se o documento i é válido. Com o módulo jdk.incubator.vector na JVM (--add-modules
+// jdk.incubator.vector), vários documentos são calculados de uma vez em SIMD; sem ele, o laço é escalar
+public final class CpfCnpjBulk {
+
+    private static final boolean VECTORIZED = vectorized();
+
+    private CpfCnpjBulk() {
+    }
+
+    // Documentos guardados como número, com os zeros à esquerda implícitos
+    public static BitSet validateCpf(long[] cpfs) {
+        return numbers(cpfs, CpfCnpj.CPF_LIMIT, CpfCnpj.CPF_LENGTH, CpfCnpj.CPF_FIRST_WEIGHTS,
+                CpfCnpj.CPF_SECOND_WEIGHTS);
+    }
+
+    public static BitSet validateCnpj(long[] cnpjs) {
+        return numbers(cnpjs, CpfCnpj.CNPJ_LIMIT, CpfCnpj.CNPJ_LENGTH, CpfCnpj.CNPJ_FIRST_WEIGHTS,
+                CpfCnpj.CNPJ_SECOND_WEIGHTS);
+    }
+
+    // Matriz de dígitos em colunas: digits[j][i] é o j-ésimo dígito (de 0 a 9) do documento i, então são 11 colunas
+    // do mesmo tamanho. Um valor fora de 0 a 9 invalida o documento
+    public static BitSet validateCpf(byte[][] digits) {
+        return digits(digits, CpfCnpj.CPF_LENGTH, CpfCnpj.CPF_FIRST_WEIGHTS, CpfCnpj.CPF_SECOND_WEIGHTS);
+    }
+
+    // 14 colunas
+    public static BitSet validateCnpj(byte[][] digits) {
+        return digits(digits, CpfCnpj.CNPJ_LENGTH, CpfCnpj.CNPJ_FIRST_WEIGHTS, CpfCnpj.CNPJ_SECOND_WEIGHTS);
+    }
+
+    // Se os lotes estão usando a Vector API
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    private static BitSet numbers(long[] values, long limit, int length, int[] firstWeights, int[] secondWeights) {
+        long[] words = new long[(values.length + 63) >>> 6];
+        int start = VECTORIZED ? VectorKernels.numbers(values, limit, length, firstWeights, secondWeights, words) : 0;
+        for (int i = start; i < values.length; i++) {
+            if (CpfCnpj.isValid(values[i], limit, length, firstWeights, secondWeights)) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static BitSet digits(byte[][] columns, int length, int[] firstWeights, int[] secondWeights) {
+        if (columns.length != length) {
+            throw new IllegalArgumentException("Expected " + length + " digit columns, got " + columns.length);
+        }
+        int count = columns[0].length;
+        for (byte[] column : columns) {
+            if (column.length != count) {
+                throw new IllegalArgumentException("Digit columns must have the same length");
+            }
+        }
+        long[] words = new long[(count + 63) >>> 6];
+        int start = VECTORIZED ? VectorKernels.digits(columns, count, length, firstWeights, secondWeights, words) : 0;
+        for (int i = start; i < count; i++) {
+            if (isValid(columns, i, length, firstWeights, secondWeights)) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static boolean isValid(byte[][] columns, int index, int length, int[] firstWeights,
+            int[] secondWeights) {
+        int first = 0;
+        int second = 0;
+        for (int j = 0; j < length; j++) {
+            int digit = columns[j][index];
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            if (j < length - 2) {
+                first += digit * firstWeights[j];
+                second += digit * secondWeights[j];
+            } else if (j == length - 2) {
+                if (digit != CpfCnpj.checkDigit(first)) {
+                    return false;
+                }
+                second += digit * secondWeights[j];
+            } else if (digit != CpfCnpj.checkDigit(second)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // A classe dos kernels só é tocada quando o módulo existe; qualquer falha ao carregá-la fica no laço escalar
+    private static boolean vectorized() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorKernels.isUseful();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,192 @@
+package br.com.validations.document;
+
+final class IeRule {
+
+    record Check(int position, int[] weights, Modulus modulus, boolean productDigits) {
+
+        Check(int position, int[] weights, Modulus modulus) {
+            this(position, weights, modulus, false);
+        }
+
+    }
+
+    record Layout(int length, Check... checks) {
+    }
+
+    enum Modulus {
+
+        MOD11 {
+            @Override
+            int expected(int sum, long digits, int length) {
+                int remainder = sum % 11;
+                return remainder < 2 ? 0 : 11 - remainder;
+            }
+        },
+        MOD11_TIMES_10 {
+            @Override
+            int expected(int sum, long digits, int length) {
+                return (sum * 10) % 11 % 10;
+            }
+        },
+        MOD11_MINUS_10 {
+            @Override
+            int expected(int sum, long digits, int length) {
+                int digit = 11 - (sum % 11);
+                return digit > 9 ? digit - 10 : digit;
+            }
+        },
+        MOD11_LAST_DIGIT {
+            @Override
+            int expected(int sum, long digits, int length) {
+                return sum % 11 % 10;
+            }
+        },
+        MOD10 {
+            @Override
+            int expected(int sum, long digits, int length) {
+                return (10 - sum % 10) % 10;
+            }
+        },
+        MOD9 {
+            @Override
+            int expected(int sum, long digits, int length) {
+                return sum % 9;
+            }
+        },
+        AMAZONAS {
+            @Override
+            int expected(int sum, long digits, int length) {
+                return sum < 2 ? -1 : MOD11.expected(sum, digits, length);
+            }
+        },
+        BAHIA {
+            @Override
+            int expected(int sum, long digits, int length) {
+                int first = digit(digits, length, length == 8 ? 0 : 1);
+                boolean mod11 = first == 6 || first == 7 || first == 9;
+                return mod11 ? MOD11.expected(sum, digits, length) : MOD10.expected(sum, digits, length);
+            }
+        },
+        AMAPA {
+            @Override
+            int expected(int sum, long digits, int length) {
+                long number = number(digits, length, length - 1);
+                int offset = -1;
+                int eleven = -1;
+                if (number >= 3017001L && number <= 3019022L) {
+                    offset = 9;
+                    eleven = 1;
+                } else if (number >= 3000001L && number <= 3017000L) {
+                    offset = 5;
+                    eleven = 0;
+                } else if (number >= 3019023L) {
+                    offset = 0;
+                    eleven = 0;
+                }
+                int digit = 11 - (sum + offset) % 11;
+                return digit == 10 ? 0 : digit == 11 ? eleven : digit;
+            }
+        },
+        GOIAS {
+            @Override
+            int expected(int sum, long digits, int length) {
+                int remainder = sum % 11;
+                if (remainder == 1) {
+                    long number = number(digits, length, length - 1);
+                    return number >= 10103105L && number <= 10119997L ? 1 : 0;
+                }
+                return remainder == 0 ? 0 : 11 - remainder;
+            }
+
+            @Override
+            boolean accepts(int sum, int actual, long digits, int length) {
+                if (number(digits, length, length - 1) == 11094402L) {
+                    return actual == 0 || actual == 1;
+                }
+                return super.accepts(sum, actual, digits, length);
+            }
+        };
+
+        abstract int expected(int sum, long digits, int length);
+
+        boolean accepts(int sum, int actual, long digits, int length) {
+            return actual == expected(sum, digits, length);
+        }
+
+    }
+
+    private final int prefixLength;
+    private final int[] prefixes;
+    private final Layout[] layouts;
+    private final Layout[] producerLayouts;
+
+    IeRule(Layout... layouts) {
+        this(0, new int[0], layouts, new Layout[0]);
+    }
+
+    IeRule(int prefixLength, int[] prefixes, Layout... layouts) {
+        this(prefixLength, prefixes, layouts, new Layout[0]);
+    }
+
+    IeRule(int prefixLength, int[] prefixes, Layout[] layouts, Layout[] producerLayouts) {
+        this.prefixLength = prefixLength;
+        this.prefixes = prefixes;
+        this.layouts = layouts;
+        this.producerLayouts = producerLayouts;
+    }
+
+    // Os dígitos chegam compactados em nibbles, o primeiro dígito no nibble mais significativo
+    boolean matches(long digits, int length, boolean producer) {
+        Layout layout = layout(producer && producerLayouts.length > 0 ? producerLayouts : layouts, length);
+        if (layout == null || !hasPrefix(digits, length)) {
+            return false;
+        }
+        for (Check check : layout.checks()) {
+            int[] weights = check.weights();
+            int sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                int product = digit(digits, length, i) * weights[i];
+                sum += check.productDigits() && product > 9 ? product - 9 : product;
+            }
+            if (!check.modulus().accepts(sum, digit(digits, length, check.position()), digits, length)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Layout layout(Layout[] layouts, int length) {
+        for (Layout layout : layouts) {
+            if (layout.length() == length) {
+                return layout;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasPrefix(long digits, int length) {
+        if (prefixes.length == 0) {
+            return true;
+        }
+        long prefix = number(digits, length, prefixLength);
+        for (int allowed : prefixes) {
+            if (prefix == allowed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static int digit(long digits, int length, int index) {
+        return (int) (digits >>> ((length - 1 - index) << 2)) & 0xF;
+    }
+
+    static long number(long digits, int length, int count) {
+        long number = 0;
+        for (int i = 0; i < count; i++) {
+            number = number * 10 + digit(digits, length, i);
+        }
+        return number;
+    }
+
+}
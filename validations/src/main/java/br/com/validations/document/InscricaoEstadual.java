@@ -0,0 +1,130 @@
+package br.com.validations.document;
+
+import static br.com.validations.document.IeRule.Modulus.AMAPA;
+import static br.com.validations.document.IeRule.Modulus.AMAZONAS;
+import static br.com.validations.document.IeRule.Modulus.BAHIA;
+import static br.com.validations.document.IeRule.Modulus.GOIAS;
+import static br.com.validations.document.IeRule.Modulus.MOD10;
+import static br.com.validations.document.IeRule.Modulus.MOD11;
+import static br.com.validations.document.IeRule.Modulus.MOD11_LAST_DIGIT;
+import static br.com.validations.document.IeRule.Modulus.MOD11_MINUS_10;
+import static br.com.validations.document.IeRule.Modulus.MOD11_TIMES_10;
+import static br.com.validations.document.IeRule.Modulus.MOD9;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import br.com.validations.document.IeRule.Check;
+import br.com.validations.document.IeRule.Layout;
+import br.com.validations.enums.BrazilianStates;
+
+public final class InscricaoEstadual {
+
+    private static final int MAX_DIGITS = 14;
+
+    private static final int[] WEIGHTS_9_TO_2 = { 9, 8, 7, 6, 5, 4, 3, 2 };
+
+    private static final Map<BrazilianStates, IeRule> RULES = rules();
+
+    private InscricaoEstadual() {
+    }
+
+    // Caracteres não numéricos (máscara) são ignorados; em SP um 'P' inicial indica produtor rural
+    public static boolean isValid(CharSequence value, BrazilianStates state) {
+        long digits = 0;
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (length == MAX_DIGITS) {
+                    return false;
+                }
+                digits = (digits << 4) | (c - '0');
+                length++;
+            }
+        }
+        boolean producer = value.length() > 0 && value.charAt(0) == 'P';
+        return RULES.get(state).matches(digits, length, producer);
+    }
+
+    private static Map<BrazilianStates, IeRule> rules() {
+        Map<BrazilianStates, IeRule> rules = new EnumMap<>(BrazilianStates.class);
+        rules.put(BrazilianStates.ACRE, new IeRule(2, new int[] { 1 },
+                new Layout(13,
+                        new Check(11, new int[] { 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11),
+                        new Check(12, new int[] { 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11))));
+        rules.put(BrazilianStates.ALAGOAS, new IeRule(3, new int[] { 240, 243, 245, 247, 248 },
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11_TIMES_10))));
+        rules.put(BrazilianStates.AMAPA, new IeRule(2, new int[] { 3 },
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, AMAPA))));
+        rules.put(BrazilianStates.AMAZONAS, new IeRule(
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, AMAZONAS))));
+        rules.put(BrazilianStates.BAHIA, new IeRule(
+                new Layout(8,
+                        new Check(7, new int[] { 7, 6, 5, 4, 3, 2 }, BAHIA),
+                        new Check(6, new int[] { 8, 7, 6, 5, 4, 3, 0, 2 }, BAHIA)),
+                new Layout(9,
+                        new Check(8, new int[] { 8, 7, 6, 5, 4, 3, 2 }, BAHIA),
+                        new Check(7, new int[] { 9, 8, 7, 6, 5, 4, 3, 0, 2 }, BAHIA))));
+        rules.put(BrazilianStates.CEARA, new IeRule(
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11))));
+        rules.put(BrazilianStates.DISTRITO_FEDERAL, new IeRule(
+                new Layout(13,
+                        new Check(11, new int[] { 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11),
+                        new Check(12, new int[] { 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11))));
+        rules.put(BrazilianStates.ESPIRITO_SANTO, new IeRule(
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11))));
+        rules.put(BrazilianStates.GOIAS, new IeRule(2, new int[] { 10, 11, 15 },
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, GOIAS))));
+        rules.put(BrazilianStates.MARANHAO, new IeRule(2, new int[] { 12 },
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11))));
+        rules.put(BrazilianStates.MATO_GROSSO, new IeRule(
+                new Layout(11, new Check(10, new int[] { 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11))));
+        rules.put(BrazilianStates.MATO_GROSSO_DO_SUL, new IeRule(2, new int[] { 28 },
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11))));
+        // O primeiro dígito soma os algarismos de cada produto, como se houvesse um 0 após o terceiro dígito
+        rules.put(BrazilianStates.MINAS_GERAIS, new IeRule(
+                new Layout(13,
+                        new Check(11, new int[] { 1, 2, 1, 1, 2, 1, 2, 1, 2, 1, 2 }, MOD10, true),
+                        new Check(12, new int[] { 3, 2, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11))));
+        rules.put(BrazilianStates.PARA, new IeRule(2, new int[] { 15 },
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11))));
+        rules.put(BrazilianStates.PARAIBA, new IeRule(
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11))));
+        rules.put(BrazilianStates.PARANA, new IeRule(
+                new Layout(10,
+                        new Check(8, new int[] { 3, 2, 7, 6, 5, 4, 3, 2 }, MOD11),
+                        new Check(9, new int[] { 4, 3, 2, 7, 6, 5, 4, 3, 2 }, MOD11))));
+        rules.put(BrazilianStates.PERNAMBUCO, new IeRule(
+                new Layout(14, new Check(13, new int[] { 5, 4, 3, 2, 1, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11_MINUS_10))));
+        rules.put(BrazilianStates.PIAUI, new IeRule(
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11))));
+        rules.put(BrazilianStates.RIO_DE_JANEIRO, new IeRule(
+                new Layout(8, new Check(7, new int[] { 2, 7, 6, 5, 4, 3, 2 }, MOD11))));
+        rules.put(BrazilianStates.RIO_GRANDE_DO_NORTE, new IeRule(2, new int[] { 20 },
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11_TIMES_10)),
+                new Layout(10, new Check(9, new int[] { 10, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11_TIMES_10))));
+        rules.put(BrazilianStates.RIO_GRANDE_DO_SUL, new IeRule(
+                new Layout(10, new Check(9, new int[] { 2, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11))));
+        rules.put(BrazilianStates.RONDONIA, new IeRule(
+                new Layout(14, new Check(13, new int[] { 6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11_MINUS_10))));
+        rules.put(BrazilianStates.RORAIMA, new IeRule(2, new int[] { 24 },
+                new Layout(9, new Check(8, new int[] { 1, 2, 3, 4, 5, 6, 7, 8 }, MOD9))));
+        rules.put(BrazilianStates.SANTA_CATARINA, new IeRule(
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11))));
+        Check saoPauloFirst = new Check(8, new int[] { 1, 3, 4, 5, 6, 7, 8, 10 }, MOD11_LAST_DIGIT);
+        rules.put(BrazilianStates.SAO_PAULO, new IeRule(0, new int[0],
+                new Layout[] {
+                        new Layout(12, saoPauloFirst,
+                                new Check(11, new int[] { 3, 2, 10, 9, 8, 7, 6, 5, 4, 3, 2 }, MOD11_LAST_DIGIT)) },
+                new Layout[] { new Layout(12, saoPauloFirst) }));
+        rules.put(BrazilianStates.SERGIPE, new IeRule(
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11))));
+        // Com 9 dígitos o código do tipo de empresa (3º e 4º dígitos de 11) é omitido
+        rules.put(BrazilianStates.TOCANTINS, new IeRule(
+                new Layout(9, new Check(8, WEIGHTS_9_TO_2, MOD11)),
+                new Layout(11, new Check(10, new int[] { 9, 8, 0, 0, 7, 6, 5, 4, 3, 2 }, MOD11))));
+        return rules;
+    }
+
+}
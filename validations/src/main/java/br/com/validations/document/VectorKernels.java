@@ -0,0 +1,152 @@
+package br.com.validations.document;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+// Só é carregada quando o módulo jdk.incubator.vector está na camada de boot (--add-modules jdk.incubator.vector);
+// cada lane de int calcula os dígitos verificadores de um documento. Os métodos validam só blocos completos e devolvem
+// onde pararam, e o restante fica com o laço escalar de CpfCnpjBulk.
+// No JDK 17 uma VectorMask que atravessa um laço ou VectorMask.toLong voltam a alocar a cada bloco, por isso as
+// máscaras só são montadas no fim de cada bloco e viram bits por uma redução
+final class VectorKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    // Um byte por lane de int, para converter uma coluna de dígitos; não existe forma menor que 64 bits, então com 4
+    // lanes (SSE, NEON, -XX:MaxVectorSize=16) são lidos 8 bytes e só a primeira metade vira ints
+    private static final VectorSpecies<Byte> BYTES = INTS.length() <= 8 ? ByteVector.SPECIES_64
+            : VectorSpecies.of(byte.class, VectorShape.forBitSize(INTS.length() * Byte.SIZE));
+    private static final IntVector LANE_BITS = laneBits();
+
+    // (x * 52429) >>> 19 == x / 10 para x < 43690, então os números são quebrados em pedaços de 4 dígitos
+    private static final int DIVIDE_BY_10 = 52429;
+    // (soma * 5958) >>> 16 == soma / 11 para as somas de pesos (bem abaixo de 33000)
+    private static final int DIVIDE_BY_11 = 5958;
+
+    private VectorKernels() {
+    }
+
+    // Abaixo disso não há ganho sobre o laço escalar; acima, os bits do bloco não caberiam em um int
+    static boolean isUseful() {
+        return INTS.length() >= 4 && INTS.length() <= Integer.SIZE;
+    }
+
+    // O pedaço de cada número é separado no laço escalar, e os dígitos de cada pedaço saem em SIMD
+    static int numbers(long[] values, long limit, int length, int[] firstWeights, int[] secondWeights, long[] words) {
+        int lanes = INTS.length();
+        int end = values.length - values.length % lanes;
+        int pieces = (length + 3) / 4;
+        int[] weights = weights(length, firstWeights, secondWeights);
+        int[][] piece = new int[pieces][lanes];
+        // digits[m]: dígito m contado da direita (0 é o último verificador)
+        int[][] digits = new int[pieces * 4][lanes];
+        for (int i = 0; i < end; i += lanes) {
+            long inRange = split(values, i, limit, piece);
+            for (int p = 0; p < pieces; p++) {
+                expand(piece[p], digits, p * 4);
+            }
+            IntVector sums = IntVector.zero(INTS);
+            for (int m = 1; m < length; m++) {
+                sums = sums.add(IntVector.fromArray(INTS, digits[m], 0).mul(weights[m]));
+            }
+            long valid = valid(sums, IntVector.fromArray(INTS, digits[1], 0), IntVector.fromArray(INTS, digits[0], 0),
+                    IntVector.zero(INTS));
+            words[i >>> 6] |= (valid & inRange) << (i & 63);
+        }
+        return end;
+    }
+
+    // Colunas de dígitos: cada coluna é lida em bloco, sem gather
+    static int digits(byte[][] columns, int count, int length, int[] firstWeights, int[] secondWeights,
+            long[] words) {
+        int lanes = INTS.length();
+        // O último bloco ainda precisa ler BYTES.length() bytes de cada coluna
+        int end = count < BYTES.length() ? 0 : count - (count - BYTES.length()) % lanes - BYTES.length() + lanes;
+        int[] weights = weights(length, firstWeights, secondWeights);
+        for (int i = 0; i < end; i += lanes) {
+            IntVector sums = IntVector.zero(INTS);
+            // Fica fora de 0 a 15 se algum dígito estiver fora de 0 a 9
+            IntVector range = IntVector.zero(INTS);
+            for (int m = 1; m < length; m++) {
+                IntVector digit = column(columns[length - 1 - m], i);
+                range = range.or(digit).or(digit.add(6));
+                sums = sums.add(digit.mul(weights[m]));
+            }
+            IntVector last = column(columns[length - 1], i);
+            range = range.or(last).or(last.add(6));
+            long valid = valid(sums, column(columns[length - 2], i), last, range.and(~15));
+            words[i >>> 6] |= valid << (i & 63);
+        }
+        return end;
+    }
+
+    // Peso de cada dígito contado da direita, com o do primeiro verificador nos 16 bits baixos e o do segundo nos
+    // altos: as duas somas andam juntas em um único vetor
+    private static int[] weights(int length, int[] firstWeights, int[] secondWeights) {
+        int[] weights = new int[length];
+        for (int m = 1; m < length; m++) {
+            int first = m >= 2 ? firstWeights[length - 1 - m] : 0;
+            weights[m] = first | secondWeights[length - 1 - m] << 16;
+        }
+        return weights;
+    }
+
+    // Números fora do intervalo viram zero e ficam de fora pelo bit de inRange
+    private static long split(long[] values, int from, long limit, int[][] piece) {
+        long inRange = 0;
+        for (int lane = 0; lane < piece[0].length; lane++) {
+            long value = values[from + lane];
+            if (value >= 0 && value < limit) {
+                inRange |= 1L << lane;
+            } else {
+                value = 0;
+            }
+            for (int p = 0; p < piece.length; p++) {
+                piece[p][lane] = (int) (value % 10_000);
+                value /= 10_000;
+            }
+        }
+        return inRange;
+    }
+
+    private static void expand(int[] piece, int[][] digits, int position) {
+        IntVector rest = IntVector.fromArray(INTS, piece, 0);
+        for (int m = position; m < position + 3; m++) {
+            IntVector quotient = rest.mul(DIVIDE_BY_10).lanewise(VectorOperators.LSHR, 19);
+            rest.sub(quotient.mul(10)).intoArray(digits[m], 0);
+            rest = quotient;
+        }
+        rest.intoArray(digits[position + 3], 0);
+    }
+
+    private static IntVector column(byte[] column, int from) {
+        return (IntVector) ByteVector.fromArray(BYTES, column, from).castShape(INTS, 0);
+    }
+
+    // Bits das lanes válidas; invalid diferente de zero derruba a lane
+    private static long valid(IntVector sums, IntVector firstDigit, IntVector secondDigit, IntVector invalid) {
+        VectorMask<Integer> valid = firstDigit.compare(VectorOperators.EQ, checkDigit(sums.and(0xffff)))
+                .and(secondDigit.compare(VectorOperators.EQ, checkDigit(sums.lanewise(VectorOperators.LSHR, 16))))
+                .and(invalid.compare(VectorOperators.EQ, 0));
+        return IntVector.zero(INTS).blend(LANE_BITS, valid).reduceLanes(VectorOperators.OR) & 0xffffffffL;
+    }
+
+    // Mesmo cálculo de CpfCnpj.checkDigit
+    private static IntVector checkDigit(IntVector sum) {
+        IntVector quotient = sum.mul(DIVIDE_BY_11).lanewise(VectorOperators.LSHR, 16);
+        IntVector remainder = sum.sub(quotient.mul(11));
+        return remainder.neg().add(11).blend(0, remainder.compare(VectorOperators.LT, 2));
+    }
+
+    private static IntVector laneBits() {
+        int[] bits = new int[INTS.length()];
+        for (int lane = 0; lane < bits.length; lane++) {
+            bits[lane] = 1 << lane;
+        }
+        return IntVector.fromArray(INTS, bits, 0);
+    }
+
+}
@@ -0,0 +1,158 @@
+package br.com.validations.enums;
+
+public enum BrazilianStates {
+    
+    ACRE ("Acre", "AC"),
+    ALAGOAS ("Alagoas", "AL"),
+    AMAPA ("Amapá", "AP"),
+    AMAZONAS ("Amazonas", "AM"),
+    BAHIA ("Bahia", "BA"),
+    CEARA ("Ceará", "CE"),
+    DISTRITO_FEDERAL ("Distrito Federal", "DF"),
+    ESPIRITO_SANTO ("Espírito Santo", "ES"),
+    GOIAS ("Goiás", "GO"),
+    MARANHAO ("Maranhão", "MA"),
+    MATO_GROSSO ("Mato Grosso", "MT"),
+    MATO_GROSSO_DO_SUL ("Mato Grosso do Sul", "MS"),
+    MINAS_GERAIS ("Minas Gerais", "MG"),
+    PARA ("Pará", "PA"),
+    PARAIBA ("Paraíba", "PB"),
+    PARANA ("Paraná", "PR"),
+    PERNAMBUCO ("Pernambuco", "PE"),
+    PIAUI ("Piauí", "PI"),
+    RIO_DE_JANEIRO ("Rio de Janeiro", "RJ"),
+    RIO_GRANDE_DO_NORTE ("Rio Grande do Norte", "RN"),
+    RIO_GRANDE_DO_SUL ("Rio Grande do Sul", "RS"),
+    RONDONIA ("Rondônia", "RO"),
+    RORAIMA ("Roraima", "RR"),
+    SANTA_CATARINA ("Santa Catarina", "SC"),
+    SAO_PAULO ("São Paulo", "SP"),
+    SERGIPE ("Sergipe", "SE"),
+    TOCANTINS ("Tocantins", "TO");
+
+    private String name;
+    private String uf;
+
+    private static final BrazilianStates[] BY_UF = new BrazilianStates[26 * 26];
+    private static final BrazilianStates[] BY_NAME = new BrazilianStates[64];
+
+    // Acentos do Latin-1 (U+00C0 a U+00FF) reduzidos à letra base; 0 quando não há equivalente
+    private static final String LATIN1_FOLD =
+            "AAAAAA\0CEEEEIIII\0NOOOOO\0\0UUUUY\0\0AAAAAA\0CEEEEIIII\0NOOOOO\0\0UUUUY\0Y";
+
+    static {
+        for (BrazilianStates state : values()) {
+            BY_UF[letter(state.uf.charAt(0)) * 26 + letter(state.uf.charAt(1))] = state;
+            int i = slot(hash(state.name));
+            while (BY_NAME[i] != null) {
+                i = (i + 1) & (BY_NAME.length - 1);
+            }
+            BY_NAME[i] = state;
+        }
+    }
+
+    BrazilianStates(String name, String uf) {
+        this.name = name;
+        this.uf = uf;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUf() {
+        return uf;
+    }
+
+    public static String getByUf(String uf){
+        BrazilianStates state = fromUf(uf);
+        return state == null ? null : state.name;
+    }
+
+    public static String getByName(String name) {
+        BrazilianStates state = fromName(name);
+        return state == null ? null : state.uf; // Retornar null se o estado não for encontrado
+    }
+
+    // Aceita tanto a sigla ("SP") quanto o nome ("São Paulo"); nenhum nome tem duas letras
+    public static BrazilianStates from(CharSequence ufOrName) {
+        if (ufOrName == null) {
+            return null;
+        }
+        return ufOrName.length() == 2 ? fromUf(ufOrName) : fromName(ufOrName);
+    }
+
+    public static BrazilianStates fromUf(CharSequence uf) {
+        if (uf == null || uf.length() != 2) {
+            return null;
+        }
+        int first = letter(uf.charAt(0));
+        int second = letter(uf.charAt(1));
+        return first < 0 || second < 0 ? null : BY_UF[first * 26 + second];
+    }
+
+    // Ignora maiúsculas/minúsculas e acentos: "SAO PAULO" e "são paulo" encontram SAO_PAULO
+    public static BrazilianStates fromName(CharSequence name) {
+        if (name == null) {
+            return null;
+        }
+        for (int i = slot(hash(name)); BY_NAME[i] != null; i = (i + 1) & (BY_NAME.length - 1)) {
+            if (sameName(BY_NAME[i].name, name)) {
+                return BY_NAME[i];
+            }
+        }
+        return null;
+    }
+
+    private static int letter(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        return c >= 'A' && c <= 'Z' ? c - 'A' : -1;
+    }
+
+    private static int hash(CharSequence name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = fold(name.charAt(i));
+            if (c != 0) {
+                hash = 31 * hash + c;
+            }
+        }
+        return hash;
+    }
+
+    private static int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & (BY_NAME.length - 1);
+    }
+
+    private static boolean sameName(String name, CharSequence candidate) {
+        int j = 0;
+        for (int i = 0; i < candidate.length(); i++) {
+            char c = fold(candidate.charAt(i));
+            if (c == 0) {
+                continue;
+            }
+            if (j == name.length() || fold(name.charAt(j++)) != c) {
+                return false;
+            }
+        }
+        return j == name.length();
+    }
+
+    // Marcas combinantes (texto decomposto, NFD) são descartadas, retornando 0
+    private static char fold(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return (char) (c - ('a' - 'A'));
+        }
+        if (c >= '\u00C0' && c <= '\u00FF') {
+            char folded = LATIN1_FOLD.charAt(c - '\u00C0');
+            return folded == '\0' ? c : folded;
+        }
+        if (c >= '\u0300' && c <= '\u036F') {
+            return 0;
+        }
+        return c;
+    }
+
+}
@@ -0,0 +1,10 @@
+package br.com.validations.exception;
+
+// Anotações combinadas de forma inconsistente em uma classe; detectado ao montar o plano de validação
+public class ValidationDefinitionException extends RuntimeException {
+
+    public ValidationDefinitionException(String message) {
+        super(message);
+    }
+
+}
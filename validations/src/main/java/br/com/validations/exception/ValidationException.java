@@ -0,0 +1,34 @@
+package br.com.validations.exception;
+
+import java.util.List;
+
+import br.com.validations.Error;
+
+// Dados inválidos são rotina, não exceção: a pilha não é capturada e a mensagem só é montada se for lida
+public class ValidationException extends Exception {
+
+    private final List<Error> validationMessages;
+    private String message;
+
+    public List<Error> getErrors() {
+        return validationMessages;
+    }
+
+    public ValidationException (List<Error> validationMessages) {
+        super(null, null, false, false);
+        this.validationMessages = List.copyOf(validationMessages);
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            StringBuilder builder = new StringBuilder("Erro ao validar atributos");
+            for (Error error : validationMessages) {
+                builder.append('\n').append(error.message());
+            }
+            message = builder.toString();
+        }
+        return message;
+    }
+
+}
@@ -0,0 +1,78 @@
+package br.com.validations.file;
+
+// Visão de um trecho da janela lida do arquivo como CharSequence, reaproveitada a cada campo; cada byte é lido como um
+// caractere Latin-1, o que cobre os documentos, CEPs, telefones, e-mails e UFs em ASCII
+final class ByteText implements CharSequence {
+
+    private byte[] buffer;
+    private int start;
+    private int length;
+
+    // Sem aspas e sem espaços nas pontas
+    ByteText set(byte[] buffer, int start, int end) {
+        while (start < end && isSpace(buffer[start])) {
+            start++;
+        }
+        while (end > start && isSpace(buffer[end - 1])) {
+            end--;
+        }
+        if (end - start >= 2 && buffer[start] == '"' && buffer[end - 1] == '"') {
+            return set(buffer, start + 1, end - 1);
+        }
+        this.buffer = buffer;
+        this.start = start;
+        this.length = end - start;
+        return this;
+    }
+
+    ByteText clear() {
+        this.length = 0;
+        return this;
+    }
+
+    // Para as verificações que leem bytes direto (CpfCnpj, Formats.isCep)
+    byte[] bytes() {
+        return buffer;
+    }
+
+    int offset() {
+        return start;
+    }
+
+    boolean isBlank() {
+        return length == 0;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) (buffer[start + index] & 0xff);
+    }
+
+    // Só fora do caminho de validação (mensagens, depuração): aqui a cópia é aceitável
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return toString().substring(from, to);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(charAt(i));
+        }
+        return text.toString();
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+}
@@ -0,0 +1,68 @@
+package br.com.validations.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+// Cada trecho começa no início de uma linha e é mapeado e validado por uma tarefa própria
+final class ChunkValidation extends RecursiveAction {
+
+    private final FileChannel channel;
+    private final FileLayout layout;
+    private final long[] bounds;
+    private final Result[] results;
+    private final int from;
+    private final int to;
+
+    ChunkValidation(FileChannel channel, FileLayout layout, long[] bounds, Result[] results, int from, int to) {
+        this.channel = channel;
+        this.layout = layout;
+        this.bounds = bounds;
+        this.results = results;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from == 1) {
+            Result result = new Result();
+            long start = bounds[from];
+            long length = bounds[from + 1] - start;
+            if (length > 0) {
+                try {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                    layout.scan(buffer, result);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            results[from] = result;
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new ChunkValidation(channel, layout, bounds, results, from, middle),
+                new ChunkValidation(channel, layout, bounds, results, middle, to));
+    }
+
+    // Linhas contadas a partir do início do trecho; o número no arquivo só é conhecido ao juntar os trechos
+    static final class Result {
+
+        long lines;
+        long rows;
+        long[] errors = new long[16];
+        int size;
+
+        void add(int line, int check) {
+            if (size == errors.length) {
+                errors = Arrays.copyOf(errors, size * 2);
+            }
+            errors[size++] = (long) line << 16 | check;
+        }
+
+    }
+
+}
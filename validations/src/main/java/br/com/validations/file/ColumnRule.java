@@ -0,0 +1,26 @@
+package br.com.validations.file;
+
+// Regras aplicáveis a uma coluna; os códigos são os mesmos das anotações equivalentes
+public enum ColumnRule {
+
+    CPF("Cpf Annotation"),
+    CNPJ("Cnpj Annotation"),
+    CEP("Cep Annotation"),
+    EMAIL("Email Annotation"),
+    PHONE("Phone Annotation"),
+    BRAZILIAN_STATE("Brazilian State Annotation"),
+    NOT_NULL("Empty Value Annotation"),
+    // Só por FileValidator.stateRegistration, que informa também a coluna do estado
+    STATE_REGISTRATION("State Registration Annotation");
+
+    private final String code;
+
+    ColumnRule(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+}
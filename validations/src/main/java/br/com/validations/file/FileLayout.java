@@ -0,0 +1,171 @@
+package br.com.validations.file;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import br.com.validations.document.CpfCnpj;
+import br.com.validations.document.InscricaoEstadual;
+import br.com.validations.enums.BrazilianStates;
+import br.com.validations.format.Formats;
+
+// Colunas já resolvidas em posições: cada linha só marca onde estão os campos usados e roda as verificações
+// sobre o próprio buffer, sem criar Strings
+final class FileLayout {
+
+    private static final int WINDOW = 1 << 16;
+
+    private final boolean fixedWidth;
+    private final byte delimiter;
+    // CSV: índice do campo na linha -> posição (-1 quando o campo não é usado)
+    private final int[] fieldPositions;
+    // Largura fixa: intervalo de bytes de cada posição dentro da linha
+    private final int[] fixedStarts;
+    private final int[] fixedEnds;
+    private final int positions;
+
+    private final ColumnRule[] rules;
+    private final int[] values;
+    private final int[] states;
+    final String[] labels;
+    final String[] codes;
+
+    FileLayout(boolean fixedWidth, byte delimiter, int[] fieldPositions, int[] fixedStarts, int[] fixedEnds,
+            int positions, ColumnRule[] rules, int[] values, int[] states, String[] labels) {
+        this.fixedWidth = fixedWidth;
+        this.delimiter = delimiter;
+        this.fieldPositions = fieldPositions;
+        this.fixedStarts = fixedStarts;
+        this.fixedEnds = fixedEnds;
+        this.positions = positions;
+        this.rules = rules;
+        this.values = values;
+        this.states = states;
+        this.labels = labels;
+        this.codes = new String[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            codes[i] = rules[i].getCode();
+        }
+    }
+
+    void scan(ByteBuffer buffer, ChunkValidation.Result result) {
+        int[] starts = new int[positions];
+        int[] ends = new int[positions];
+        ByteText value = new ByteText();
+        ByteText state = new ByteText();
+        int limit = buffer.limit();
+        // O trecho mapeado é copiado aos poucos para uma janela reaproveitada: varrer um byte[] é bem mais barato que
+        // ler byte a byte do MappedByteBuffer
+        byte[] window = new byte[Math.min(limit, WINDOW)];
+        int base = 0;
+        int line = 0;
+        while (base < limit) {
+            int length = Math.min(window.length, limit - base);
+            buffer.get(base, window, 0, length);
+            boolean last = base + length == limit;
+            int position = 0;
+            while (position < length) {
+                int end = position;
+                while (end < length && window[end] != '\n') {
+                    end++;
+                }
+                // Linha cortada pela janela: fica para a próxima cópia
+                if (end == length && !last) {
+                    break;
+                }
+                if (!isBlank(window, position, end)) {
+                    locate(window, position, end, starts, ends);
+                    result.rows++;
+                    for (int check = 0; check < rules.length; check++) {
+                        if (!passes(check, window, starts, ends, value, state)) {
+                            result.add(line, check);
+                        }
+                    }
+                }
+                line++;
+                position = end + 1;
+            }
+            if (position == 0) {
+                // Uma linha maior que a janela inteira
+                window = Arrays.copyOf(window, (int) Math.min((long) window.length * 2, limit));
+                continue;
+            }
+            base += Math.min(position, length);
+        }
+        result.lines = line;
+    }
+
+    private void locate(byte[] buffer, int start, int end, int[] starts, int[] ends) {
+        if (fixedWidth) {
+            for (int i = 0; i < positions; i++) {
+                starts[i] = Math.min(start + fixedStarts[i], end);
+                ends[i] = Math.min(start + fixedEnds[i], end);
+            }
+            return;
+        }
+        Arrays.fill(starts, -1);
+        int field = 0;
+        int fieldStart = start;
+        boolean quoted = false;
+        for (int i = start; i < end; i++) {
+            byte b = buffer[i];
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == delimiter && !quoted) {
+                mark(field++, fieldStart, i, starts, ends);
+                fieldStart = i + 1;
+                // Os campos depois do último usado nem são percorridos
+                if (field >= fieldPositions.length) {
+                    return;
+                }
+            }
+        }
+        mark(field, fieldStart, end, starts, ends);
+    }
+
+    private void mark(int field, int start, int end, int[] starts, int[] ends) {
+        if (field < fieldPositions.length && fieldPositions[field] >= 0) {
+            starts[fieldPositions[field]] = start;
+            ends[fieldPositions[field]] = end;
+        }
+    }
+
+    // Como nas verificações do Validator, campo em branco (ou ausente na linha) só falha em NOT_NULL
+    private boolean passes(int check, byte[] buffer, int[] starts, int[] ends, ByteText value, ByteText state) {
+        ByteText text = read(buffer, values[check], starts, ends, value);
+        if (text.isBlank()) {
+            return rules[check] != ColumnRule.NOT_NULL;
+        }
+        return switch (rules[check]) {
+            case CPF -> CpfCnpj.isValidCpf(text.bytes(), text.offset(), text.length());
+            case CNPJ -> CpfCnpj.isValidCnpj(text.bytes(), text.offset(), text.length());
+            case CEP -> Formats.isCep(text.bytes(), text.offset(), text.length());
+            case EMAIL -> Formats.isEmail(text);
+            case PHONE -> Formats.isPhone(text);
+            case BRAZILIAN_STATE -> BrazilianStates.from(text) != null;
+            case NOT_NULL -> true;
+            case STATE_REGISTRATION -> {
+                ByteText uf = read(buffer, states[check], starts, ends, state);
+                if (uf.isBlank()) {
+                    yield true;
+                }
+                BrazilianStates brazilianState = BrazilianStates.from(uf);
+                yield brazilianState != null && InscricaoEstadual.isValid(text, brazilianState);
+            }
+        };
+    }
+
+    private static ByteText read(byte[] buffer, int position, int[] starts, int[] ends, ByteText text) {
+        return starts[position] < 0 ? text.clear() : text.set(buffer, starts[position], ends[position]);
+    }
+
+    private static boolean isBlank(byte[] buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = buffer[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
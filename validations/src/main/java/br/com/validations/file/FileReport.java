@@ -0,0 +1,53 @@
+package br.com.validations.file;
+
+import java.io.IOException;
+
+// Cada erro é um long (linha << 16 | verificação), na ordem do arquivo; rótulo e código vêm da verificação
+public final class FileReport {
+
+    private final long rows;
+    private final long[] errors;
+    private final String[] columns;
+    private final String[] codes;
+
+    FileReport(long rows, long[] errors, String[] columns, String[] codes) {
+        this.rows = rows;
+        this.errors = errors;
+        this.columns = columns;
+        this.codes = codes;
+    }
+
+    // Linhas de dados validadas, sem o cabeçalho e as linhas em branco
+    public long rows() {
+        return rows;
+    }
+
+    public boolean isValid() {
+        return errors.length == 0;
+    }
+
+    public int errorCount() {
+        return errors.length;
+    }
+
+    // Número da linha no arquivo, a partir de 1 e contando o cabeçalho
+    public long line(int error) {
+        return errors[error] >>> 16;
+    }
+
+    public String column(int error) {
+        return columns[(int) (errors[error] & 0xffff)];
+    }
+
+    public String code(int error) {
+        return codes[(int) (errors[error] & 0xffff)];
+    }
+
+    // Uma linha "linha;coluna;código" por erro
+    public void writeTo(Appendable out) throws IOException {
+        for (int i = 0; i < errors.length; i++) {
+            out.append(Long.toString(line(i))).append(';').append(column(i)).append(';').append(code(i)).append('\n');
+        }
+    }
+
+}
@@ -0,0 +1,316 @@
+package br.com.validations.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+// Valida arquivos CSV ou de largura fixa direto do arquivo mapeado em memória, sem criar um DTO nem Strings por campo.
+// Uma linha por registro; os bytes são lidos como ASCII/Latin-1, então o estado da inscrição deve vir como UF
+public final class FileValidator {
+
+    // Trechos menores que isso não compensam uma tarefa própria
+    private static final long MIN_CHUNK = 1 << 20;
+    // Cada trecho é mapeado de uma vez, e FileChannel.map aceita no máximo 2 GB
+    private static final long MAX_CHUNK = 1 << 30;
+
+    private final boolean fixedWidth;
+    private final byte delimiter;
+    private final boolean header;
+    private final List<Check> checks = new ArrayList<>();
+    private long minChunk = MIN_CHUNK;
+
+    // Coluna por nome do cabeçalho, por índice (CSV) ou por intervalo de bytes (largura fixa)
+    private record Column(String name, int index, int start, int end) {
+    }
+
+    private record Check(ColumnRule rule, Column value, Column state) {
+    }
+
+    private FileValidator(boolean fixedWidth, char delimiter, boolean header) {
+        if (delimiter > 0x7f || delimiter == '"' || delimiter == '\n') {
+            throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+        }
+        this.fixedWidth = fixedWidth;
+        this.delimiter = (byte) delimiter;
+        this.header = header;
+    }
+
+    // A primeira linha é o cabeçalho
+    public static FileValidator csv(char delimiter) {
+        return new FileValidator(false, delimiter, true);
+    }
+
+    public static FileValidator csv(char delimiter, boolean header) {
+        return new FileValidator(false, delimiter, header);
+    }
+
+    public static FileValidator fixedWidth() {
+        return new FileValidator(true, ' ', false);
+    }
+
+    public FileValidator column(String name, ColumnRule rule) {
+        return add(rule, named(name), null);
+    }
+
+    // Índice do campo na linha, a partir de 0
+    public FileValidator column(int index, ColumnRule rule) {
+        return add(rule, indexed(index), null);
+    }
+
+    // Largura fixa: bytes de start (inclusive) a end (exclusive) de cada linha
+    public FileValidator column(int start, int end, ColumnRule rule) {
+        return add(rule, range(start, end), null);
+    }
+
+    public FileValidator stateRegistration(String column, String stateColumn) {
+        return add(ColumnRule.STATE_REGISTRATION, named(column), named(stateColumn));
+    }
+
+    public FileValidator stateRegistration(int column, int stateColumn) {
+        return add(ColumnRule.STATE_REGISTRATION, indexed(column), indexed(stateColumn));
+    }
+
+    public FileValidator stateRegistration(int start, int end, int stateStart, int stateEnd) {
+        return add(ColumnRule.STATE_REGISTRATION, range(start, end), range(stateStart, stateEnd));
+    }
+
+    public FileReport validate(Path file) throws IOException {
+        return validate(file, ForkJoinPool.commonPool());
+    }
+
+    public FileReport validate(Path file, int parallelism) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return validate(file, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public FileReport validate(Path file, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = 0;
+            List<String> names = null;
+            if (header) {
+                byte[] headerLine = readLine(channel, 0, size);
+                dataStart = headerLine.length;
+                names = headerNames(headerLine);
+            }
+            FileLayout layout = layout(file, names);
+            long[] bounds = bounds(channel, dataStart, size, pool.getParallelism(), minChunk);
+            ChunkValidation.Result[] results = new ChunkValidation.Result[bounds.length - 1];
+            try {
+                pool.invoke(new ChunkValidation(channel, layout, bounds, results, 0, results.length));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return report(layout, results, header ? 1 : 0);
+        }
+    }
+
+    // Só para os testes: trechos pequenos fazem um arquivo curto passar pela divisão em vários trechos
+    FileValidator minChunk(long bytes) {
+        this.minChunk = bytes;
+        return this;
+    }
+
+    private FileValidator add(ColumnRule rule, Column value, Column state) {
+        Objects.requireNonNull(rule, "rule");
+        if (rule == ColumnRule.STATE_REGISTRATION && state == null) {
+            throw new IllegalArgumentException("STATE_REGISTRATION needs the state column: use stateRegistration");
+        }
+        // O índice da verificação ocupa 16 bits de cada erro do relatório
+        if (checks.size() == 0xffff) {
+            throw new IllegalStateException("Too many column checks");
+        }
+        checks.add(new Check(rule, value, state));
+        return this;
+    }
+
+    private Column named(String name) {
+        if (fixedWidth || !header) {
+            throw new IllegalStateException("Columns can only be named in CSV files with a header");
+        }
+        return new Column(Objects.requireNonNull(name, "name"), -1, -1, -1);
+    }
+
+    private Column indexed(int index) {
+        if (fixedWidth) {
+            throw new IllegalStateException("Fixed-width columns need a byte range");
+        }
+        if (index < 0) {
+            throw new IllegalArgumentException("Invalid column index: " + index);
+        }
+        return new Column(null, index, -1, -1);
+    }
+
+    private Column range(int start, int end) {
+        if (!fixedWidth) {
+            throw new IllegalStateException("Byte ranges only apply to fixed-width files");
+        }
+        if (start < 0 || end <= start) {
+            throw new IllegalArgumentException("Invalid column range: " + start + "-" + end);
+        }
+        return new Column(null, -1, start, end);
+    }
+
+    // Nomes viram índices e cada coluna usada ganha uma posição, compartilhada entre as verificações
+    private FileLayout layout(Path file, List<String> names) {
+        Map<Column, Integer> positions = new LinkedHashMap<>();
+        int checkCount = checks.size();
+        ColumnRule[] rules = new ColumnRule[checkCount];
+        int[] values = new int[checkCount];
+        int[] states = new int[checkCount];
+        String[] labels = new String[checkCount];
+        for (int i = 0; i < checkCount; i++) {
+            Check check = checks.get(i);
+            Column value = resolve(file, check.value(), names);
+            rules[i] = check.rule();
+            values[i] = positions.computeIfAbsent(value, column -> positions.size());
+            states[i] = check.state() == null ? -1
+                    : positions.computeIfAbsent(resolve(file, check.state(), names), column -> positions.size());
+            labels[i] = label(value, names);
+        }
+
+        int maxIndex = -1;
+        for (Column column : positions.keySet()) {
+            maxIndex = Math.max(maxIndex, column.index());
+        }
+        int[] fieldPositions = new int[maxIndex + 1];
+        Arrays.fill(fieldPositions, -1);
+        int[] fixedStarts = new int[positions.size()];
+        int[] fixedEnds = new int[positions.size()];
+        for (Map.Entry<Column, Integer> entry : positions.entrySet()) {
+            Column column = entry.getKey();
+            if (fixedWidth) {
+                fixedStarts[entry.getValue()] = column.start();
+                fixedEnds[entry.getValue()] = column.end();
+            } else {
+                fieldPositions[column.index()] = entry.getValue();
+            }
+        }
+        return new FileLayout(fixedWidth, delimiter, fieldPositions, fixedStarts, fixedEnds, positions.size(), rules,
+                values, states, labels);
+    }
+
+    private static Column resolve(Path file, Column column, List<String> names) {
+        if (column.name() == null) {
+            return column;
+        }
+        int index = names.indexOf(column.name());
+        if (index < 0) {
+            throw new IllegalArgumentException(file + " has no column " + column.name() + " in its header " + names);
+        }
+        return new Column(null, index, -1, -1);
+    }
+
+    private static String label(Column column, List<String> names) {
+        if (column.index() < 0) {
+            return column.start() + "-" + column.end();
+        }
+        return names != null && column.index() < names.size() ? names.get(column.index())
+                : Integer.toString(column.index());
+    }
+
+    private List<String> headerNames(byte[] line) {
+        int start = 0;
+        int end = line.length;
+        // BOM do UTF-8
+        if (end >= 3 && line[0] == (byte) 0xef && line[1] == (byte) 0xbb && line[2] == (byte) 0xbf) {
+            start = 3;
+        }
+        while (end > start && (line[end - 1] == '\n' || line[end - 1] == '\r')) {
+            end--;
+        }
+        // O cabeçalho é lido uma vez só, então aqui os nomes viram Strings (em UTF-8)
+        List<String> names = new ArrayList<>();
+        int fieldStart = start;
+        boolean quoted = false;
+        for (int i = start; i <= end; i++) {
+            if (i < end && line[i] == '"') {
+                quoted = !quoted;
+            } else if (i == end || line[i] == delimiter && !quoted) {
+                String name = new String(line, fieldStart, i - fieldStart, StandardCharsets.UTF_8).strip();
+                if (name.length() >= 2 && name.startsWith("\"") && name.endsWith("\"")) {
+                    name = name.substring(1, name.length() - 1).strip();
+                }
+                names.add(name);
+                fieldStart = i + 1;
+            }
+        }
+        return names;
+    }
+
+    // Divide o arquivo em trechos de tamanhos parecidos, cada um terminando logo depois de uma quebra de linha
+    private static long[] bounds(FileChannel channel, long start, long size, int parallelism, long minChunk)
+            throws IOException {
+        long length = size - start;
+        long count = Math.max(parallelism * 4L, length / MAX_CHUNK + 1);
+        count = Math.max(1, Math.min(count, length / minChunk + 1));
+        long[] bounds = new long[(int) count + 1];
+        bounds[0] = start;
+        for (int i = 1; i < count; i++) {
+            long target = Math.max(bounds[i - 1], start + length * i / count);
+            bounds[i] = target >= size ? size : target + readLine(channel, target, size).length;
+        }
+        bounds[(int) count] = size;
+        return bounds;
+    }
+
+    // Bytes de position até a próxima quebra de linha, inclusive
+    private static byte[] readLine(FileChannel channel, long position, long size) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long current = position;
+        while (current < size) {
+            buffer.clear();
+            int read = channel.read(buffer, current);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    line.write(buffer.array(), 0, i + 1);
+                    return line.toByteArray();
+                }
+            }
+            line.write(buffer.array(), 0, read);
+            current += read;
+        }
+        return line.toByteArray();
+    }
+
+    private static FileReport report(FileLayout layout, ChunkValidation.Result[] results, long firstLine) {
+        int errorCount = 0;
+        long rows = 0;
+        for (ChunkValidation.Result result : results) {
+            errorCount += result.size;
+            rows += result.rows;
+        }
+        long[] errors = new long[errorCount];
+        int next = 0;
+        long lineOffset = firstLine + 1;
+        for (ChunkValidation.Result result : results) {
+            for (int i = 0; i < result.size; i++) {
+                long error = result.errors[i];
+                errors[next++] = (lineOffset + (error >>> 16)) << 16 | (error & 0xffff);
+            }
+            lineOffset += result.lines;
+        }
+        return new FileReport(rows, errors, layout.labels, layout.codes);
+    }
+
+}
@@ -0,0 +1,144 @@
+package br.com.validations.format;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+public final class Formats {
+
+    private Formats() {
+    }
+
+    // Equivalente a ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$
+    public static boolean isEmail(CharSequence value) {
+        int length = value.length();
+        int at = 0;
+        while (at < length && value.charAt(at) != '@') {
+            if (!isEmailLocalChar(value.charAt(at))) {
+                return false;
+            }
+            at++;
+        }
+        if (at == 0 || at == length) {
+            return false;
+        }
+
+        int domain = at + 1;
+        int lastDot = -1;
+        for (int i = domain; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        if (lastDot <= domain || length - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isAsciiLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Equivalente a ^\d{5}-\d{3}$
+    public static boolean isCep(CharSequence value) {
+        if (value.length() != 9 || value.charAt(5) != '-') {
+            return false;
+        }
+        return isDigits(value, 0, 5) && isDigits(value, 6, 9);
+    }
+
+    // CEP em bytes ASCII, validado direto no array
+    public static boolean isCep(byte[] value, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        if (length != 9 || value[offset + 5] != '-') {
+            return false;
+        }
+        for (int i = 0; i < 9; i++) {
+            byte b = value[offset + i];
+            if (i != 5 && (b < '0' || b > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Lê por índice absoluto, sem mudar a posição do buffer
+    public static boolean isCep(ByteBuffer value, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, value.limit());
+        if (value.hasArray()) {
+            return isCep(value.array(), value.arrayOffset() + offset, length);
+        }
+        if (length != 9 || value.get(offset + 5) != '-') {
+            return false;
+        }
+        for (int i = 0; i < 9; i++) {
+            byte b = value.get(offset + i);
+            if (i != 5 && (b < '0' || b > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Equivalente a ^\(?(\d{2})\)? ?(?:9\d{4}-\d{4}|\d{4}-\d{4}|\d{8}|\d{9})$
+    public static boolean isPhone(CharSequence value) {
+        int length = value.length();
+        int i = 0;
+        if (i < length && value.charAt(i) == '(') {
+            i++;
+        }
+        if (i + 2 > length || !isDigits(value, i, i + 2)) {
+            return false;
+        }
+        i += 2;
+        if (i < length && value.charAt(i) == ')') {
+            i++;
+        }
+        if (i < length && value.charAt(i) == ' ') {
+            i++;
+        }
+
+        int number = length - i;
+        if (number == 8 || number == 9) {
+            if (isDigits(value, i, length)) {
+                return true;
+            }
+        }
+        if (number == 10) {
+            if (value.charAt(i) != '9') {
+                return false;
+            }
+            i++;
+            number--;
+        }
+        return number == 9 && value.charAt(i + 4) == '-' && isDigits(value, i, i + 4)
+                && isDigits(value, i + 5, length);
+    }
+
+    private static boolean isDigits(CharSequence value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+}
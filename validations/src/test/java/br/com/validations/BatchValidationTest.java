@@ -0,0 +1,77 @@
+package br.com.validations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import br.com.validations.annotation.Cpf;
+
+public class BatchValidationTest {
+
+    public static class Person {
+        @Cpf
+        private final String cpf;
+
+        Person(String cpf) {
+            this.cpf = cpf;
+        }
+    }
+
+    @Before
+    public void quiet() {
+        Validator.setFailureReporter(FailureReporter.NONE);
+    }
+
+    @After
+    public void reset() {
+        Validator.setFailureReporter(FailureReporter.logging(System.Logger.Level.WARNING));
+    }
+
+    @Test
+    public void resultsKeepTheOrderOfTheBatch() {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            people.add(new Person(i % 3 == 0 ? "529.982.247-26" : "529.982.247-25"));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (List<ValidationResult> results : List.of(Validator.validateAll(people),
+                    Validator.validateAll(people, 4), Validator.validateAll(people, pool),
+                    Validator.validateAll(people.stream(), 3))) {
+                assertEquals(people.size(), results.size());
+                for (int i = 0; i < people.size(); i++) {
+                    assertEquals(String.valueOf(i), i % 3 != 0, results.get(i).isValid());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void nullElementIsRejectedWithItsIndex() {
+        List<Person> people = Arrays.asList(new Person("529.982.247-25"), new Person(null), null);
+        try {
+            Validator.validateAll(people, 2);
+            fail();
+        } catch (NullPointerException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Element 2 "));
+        }
+        try {
+            Validator.validateAll(people.stream());
+            fail();
+        } catch (NullPointerException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Element 2 "));
+        }
+    }
+
+}
@@ -0,0 +1,301 @@
+package br.com.validations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import br.com.validations.annotation.BrazilianState;
+import br.com.validations.annotation.Cep;
+import br.com.validations.annotation.Cnpj;
+import br.com.validations.annotation.Cpf;
+import br.com.validations.annotation.Email;
+import br.com.validations.annotation.NotNull;
+import br.com.validations.annotation.Phone;
+import br.com.validations.annotation.Size;
+import br.com.validations.annotation.StateRegistration;
+import br.com.validations.enums.BrazilianStates;
+
+// Compara o plano compilado por PlanCompiler com o interpretado nas mesmas entradas
+public class CompiledPlanTest {
+
+    private static final int SAMPLES = 20_000;
+
+    private static final String[] CNPJS = { "11.222.333/0001-81", "11222333000181", "11.222.333/0001-82", "", " ",
+            null, "abc" };
+    private static final long[] CNPJ_NUMBERS = { 11222333000181L, 11222333000182L, 0, -1 };
+    private static final Long[] CPF_NUMBERS = { 52998224725L, 52998224726L, null };
+    private static final String[] CPFS = { "529.982.247-25", "52998224726", "", null };
+    private static final String[] STATES = { BrazilianStates.SAO_PAULO.getName(),
+            BrazilianStates.MINAS_GERAIS.getName(), "SP", "Atlântida", "", null };
+    private static final String[] REGISTRATIONS = { "028787014961", "6950992968329", "028787014962",
+            "P-01100424.3/002", "", null };
+    private static final String[] WIDE_CPFS = { "52998224726", "529.982.247-2", "", null };
+    private static final String[] EMAILS = { "cliente@empresa.com.br", "cliente@", "", null };
+    private static final String[] CEPS = { "01310-100", "01310100", "0131", null };
+    private static final List<String> CATEGORIES = List.of("a", "b", "c");
+    private static final String[] PHONES = { "(11) 91234-5678", "11912345678", "123", null };
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    public static class Company {
+        @Cnpj
+        private String cnpj;
+        @Cnpj
+        private long cnpjNumber;
+        @Cpf
+        private Long partnerCpf;
+        @BrazilianState(stateRegistration = true)
+        private String state;
+        @StateRegistration
+        private String registration;
+        @Size(min = 1, max = 3)
+        private List<String> tags;
+        @Size(min = 1, max = 2)
+        private int[] codes;
+        @Email
+        private String email;
+        @Cep
+        private String cep;
+        @Phone
+        private String phone;
+        @NotNull
+        private Object owner;
+    }
+
+    public static class Person {
+        @Cpf
+        private String cpf;
+        @NotNull
+        protected String name;
+        @Cpf
+        long cpfNumber;
+    }
+
+    public static class Customer extends Person {
+        @StateRegistration(uf = "MG")
+        private String registration;
+        @Size(max = 2)
+        private String[] aliases;
+        @Size(min = 2, max = 5)
+        private String nickname;
+    }
+
+    public record Supplier(@Cnpj String cnpj, @Cnpj Long cnpjNumber, @Cpf long cpf,
+            @BrazilianState(stateRegistration = true) String state, @StateRegistration String registration,
+            @Size(min = 1, max = 2) Set<String> categories) {
+    }
+
+    // 70 regras (@NotNull e @Cpf em cada campo): duas classes geradas, a segunda com as 6 que passam de 64
+    public static class Wide {
+        @NotNull
+        @Cpf
+        String cpf00;
+        @NotNull
+        @Cpf
+        String cpf01;
+        @NotNull
+        @Cpf
+        String cpf02;
+        @NotNull
+        @Cpf
+        String cpf03;
+        @NotNull
+        @Cpf
+        String cpf04;
+        @NotNull
+        @Cpf
+        String cpf05;
+        @NotNull
+        @Cpf
+        String cpf06;
+        @NotNull
+        @Cpf
+        String cpf07;
+        @NotNull
+        @Cpf
+        String cpf08;
+        @NotNull
+        @Cpf
+        String cpf09;
+        @NotNull
+        @Cpf
+        String cpf10;
+        @NotNull
+        @Cpf
+        String cpf11;
+        @NotNull
+        @Cpf
+        String cpf12;
+        @NotNull
+        @Cpf
+        String cpf13;
+        @NotNull
+        @Cpf
+        String cpf14;
+        @NotNull
+        @Cpf
+        String cpf15;
+        @NotNull
+        @Cpf
+        String cpf16;
+        @NotNull
+        @Cpf
+        String cpf17;
+        @NotNull
+        @Cpf
+        String cpf18;
+        @NotNull
+        @Cpf
+        String cpf19;
+        @NotNull
+        @Cpf
+        String cpf20;
+        @NotNull
+        @Cpf
+        String cpf21;
+        @NotNull
+        @Cpf
+        String cpf22;
+        @NotNull
+        @Cpf
+        String cpf23;
+        @NotNull
+        @Cpf
+        String cpf24;
+        @NotNull
+        @Cpf
+        String cpf25;
+        @NotNull
+        @Cpf
+        String cpf26;
+        @NotNull
+        @Cpf
+        String cpf27;
+        @NotNull
+        @Cpf
+        String cpf28;
+        @NotNull
+        @Cpf
+        String cpf29;
+        @NotNull
+        @Cpf
+        String cpf30;
+        @NotNull
+        @Cpf
+        String cpf31;
+        @NotNull
+        @Cpf
+        String cpf32;
+        @NotNull
+        @Cpf
+        String cpf33;
+        @NotNull
+        @Cpf
+        String cpf34;
+    }
+
+    @Before
+    public void quiet() {
+        Validator.setFailureReporter(FailureReporter.NONE);
+    }
+
+    @After
+    public void reset() {
+        Validator.setCompiledPlans(false);
+        Validator.setFailureReporter(FailureReporter.logging(System.Logger.Level.WARNING));
+    }
+
+    @Test
+    public void classWithEveryRuleType() {
+        assertSameResults(Company.class, i -> {
+            Company company = new Company();
+            company.cnpj = pick(CNPJS);
+            company.cnpjNumber = CNPJ_NUMBERS[random.nextInt(CNPJ_NUMBERS.length)];
+            company.partnerCpf = pick(CPF_NUMBERS);
+            company.state = pick(STATES);
+            company.registration = pick(REGISTRATIONS);
+            company.tags = random.nextInt(5) == 0 ? null : Arrays.asList(new String[random.nextInt(5)]);
+            company.codes = random.nextInt(5) == 0 ? null : new int[random.nextInt(4)];
+            company.email = pick(EMAILS);
+            company.cep = pick(CEPS);
+            company.phone = pick(PHONES);
+            company.owner = random.nextBoolean() ? null : i;
+            return company;
+        });
+    }
+
+    @Test
+    public void inheritedAndPrivateFieldsWithFixedState() {
+        assertSameResults(Customer.class, i -> {
+            Customer customer = new Customer();
+            ((Person) customer).cpf = pick(CPFS);
+            customer.name = random.nextBoolean() ? null : "Cliente " + i;
+            customer.cpfNumber = CPF_NUMBERS[random.nextInt(2)];
+            customer.registration = pick(REGISTRATIONS);
+            customer.aliases = random.nextInt(5) == 0 ? null : new String[random.nextInt(4)];
+            customer.nickname = random.nextInt(5) == 0 ? null : "x".repeat(random.nextInt(7));
+            return customer;
+        });
+    }
+
+    @Test
+    public void recordComponents() {
+        assertSameResults(Supplier.class, i -> new Supplier(pick(CNPJS),
+                random.nextBoolean() ? null : CNPJ_NUMBERS[random.nextInt(CNPJ_NUMBERS.length)],
+                CPF_NUMBERS[random.nextInt(2)], pick(STATES), pick(REGISTRATIONS),
+                random.nextInt(5) == 0 ? null : Set.copyOf(CATEGORIES.subList(0, random.nextInt(4)))));
+    }
+
+    @Test
+    public void moreThan64Rules() throws IllegalAccessException {
+        Field[] fields = Wide.class.getDeclaredFields();
+        List<Wide> objects = new ArrayList<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            Wide wide = new Wide();
+            for (Field field : fields) {
+                // Quase todos válidos, para que cada objeto falhe em poucas regras, em qualquer um dos blocos
+                field.set(wide, random.nextInt(20) == 0 ? pick(WIDE_CPFS) : "529.982.247-25");
+            }
+            objects.add(wide);
+        }
+        assertSameResults(Wide.class, objects::get);
+        assertEquals(2, ValidationPlan.of(Wide.class).compiled(Wide.class).failures.length);
+    }
+
+    private <T> void assertSameResults(Class<T> type, Function<Integer, T> factory) {
+        List<T> objects = new ArrayList<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            objects.add(factory.apply(i));
+        }
+        List<ValidationResult> interpreted = new ArrayList<>();
+        List<Boolean> interpretedValid = new ArrayList<>();
+        for (T object : objects) {
+            interpreted.add(Validator.validate(object));
+            interpretedValid.add(Validator.isValid(object));
+        }
+        Validator.setCompiledPlans(true);
+        for (int i = 0; i < SAMPLES; i++) {
+            T object = objects.get(i);
+            assertEquals("validate(" + i + ")", interpreted.get(i), Validator.validate(object));
+            assertEquals("isValid(" + i + ")", interpretedValid.get(i), Validator.isValid(object));
+        }
+        // Sem isso o teste passaria comparando o plano interpretado com ele mesmo
+        assertNotNull(type.getName() + " was not compiled", ValidationPlan.of(type).compiled(type));
+    }
+
+    private <V> V pick(V[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+}
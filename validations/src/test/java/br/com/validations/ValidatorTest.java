@@ -0,0 +1,364 @@
+package br.com.validations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import br.com.validations.annotation.BrazilianState;
+import br.com.validations.annotation.Cep;
+import br.com.validations.annotation.Cnpj;
+import br.com.validations.annotation.Cpf;
+import br.com.validations.annotation.NotNull;
+import br.com.validations.annotation.Size;
+import br.com.validations.annotation.StateRegistration;
+import br.com.validations.annotation.TargetValidation;
+import br.com.validations.exception.ValidationDefinitionException;
+import br.com.validations.exception.ValidationException;
+
+public class ValidatorTest {
+
+    public static class Unlinked {
+        @StateRegistration
+        String registration = "028787014961";
+    }
+
+    public static class FixedState {
+        @StateRegistration(uf = "MG")
+        String registration = "6950992968329";
+    }
+
+    public static class InvalidUf {
+        @StateRegistration(uf = "XX")
+        String registration = "028787014961";
+    }
+
+    public static class Linked {
+        @BrazilianState(stateRegistration = true)
+        String state = "Minas Gerais";
+        @StateRegistration
+        String registration = "6950992968329";
+    }
+
+    public static class Address {
+        @Cep
+        String cep;
+
+        Address(String cep) {
+            this.cep = cep;
+        }
+    }
+
+    public static class Item {
+        @Cpf
+        String cpf;
+
+        Item(String cpf) {
+            this.cpf = cpf;
+        }
+    }
+
+    public static class Order {
+        @TargetValidation
+        Address address;
+        @TargetValidation
+        List<Item> items;
+        @TargetValidation
+        Map<String, Address> addresses;
+        @TargetValidation
+        Item[] extras;
+    }
+
+    public static class Node {
+        @NotNull
+        String name;
+        @TargetValidation
+        Node next;
+    }
+
+    public static class BaseAddress {
+        @Cep
+        private String cep = "0131";
+    }
+
+    public static class CustomerAddress extends BaseAddress {
+        @NotNull
+        String street;
+    }
+
+    public static class BillingAddress extends CustomerAddress {
+        @Cpf
+        String payerCpf = "1";
+    }
+
+    // Sem anotações próprias, só as herdadas
+    public static class PlainAddress extends CustomerAddress {
+        String complement;
+    }
+
+    public static class WithStatic {
+        @Cpf
+        static String defaultCpf = "1";
+        @Cpf
+        String cpf = "529.982.247-25";
+    }
+
+    // O acessor corta o que sobra do valor guardado; lido direto do campo, o CPF teria dígitos a mais
+    public record Supplier(@Cpf String cpf, @Cep String cep) {
+
+        @Override
+        public String cpf() {
+            return cpf.length() > 14 ? cpf.substring(0, 14) : cpf;
+        }
+
+    }
+
+    public sealed interface Party permits Person, Company {
+    }
+
+    public record Person(@Cpf String cpf) implements Party {
+    }
+
+    public record Company(@NotNull String name) implements Party {
+    }
+
+    public static class Contract {
+        @TargetValidation
+        Party party;
+        @TargetValidation
+        List<Party> witnesses;
+    }
+
+    public interface Search extends Group {
+    }
+
+    // Pedir Patch também seleciona as regras de Search
+    public interface Patch extends Search {
+    }
+
+    public interface Create extends Group {
+    }
+
+    public static class Account {
+        @NotNull(groups = { Group.Default.class, Search.class })
+        String name;
+        @Cpf
+        String cpf = "1";
+        @Cnpj(groups = Create.class)
+        String cnpj = "1";
+        @Size(max = 3, groups = Patch.class)
+        String nickname = "apelido";
+        @TargetValidation(groups = { Group.Default.class, Search.class })
+        Address address = new Address("0131");
+    }
+
+    public static class Registration {
+        @Cpf
+        String cpf = "529.982.247-25";
+        @Cep
+        String cep = "0131";
+        @BrazilianState(stateRegistration = true)
+        String state = "São Paulo";
+        @StateRegistration
+        String registration = "028787014961";
+        @Size(max = 2)
+        List<String> tags = new ArrayList<>(List.of("a"));
+        String notes;
+    }
+
+    @Before
+    public void quiet() {
+        Validator.setFailureReporter(FailureReporter.NONE);
+    }
+
+    @After
+    public void reset() {
+        Validator.setFailureReporter(FailureReporter.logging(System.Logger.Level.WARNING));
+        Validator.setMaxDepth(64);
+    }
+
+    // Em largura: os campos do objeto, depois cada objeto aninhado na ordem em que foi alcançado
+    @Test
+    public void nestedErrorPaths() {
+        Order order = new Order();
+        order.address = new Address("0131");
+        order.items = List.of(new Item("529.982.247-25"), new Item(null), new Item("529.982.247-26"));
+        order.addresses = new LinkedHashMap<>();
+        order.addresses.put("casa", new Address("01310-100"));
+        order.addresses.put("trabalho", new Address("01310"));
+        order.extras = new Item[] { null, new Item("1") };
+        assertEquals(List.of("address.cep", "items[2].cpf", "addresses[trabalho].cep", "extras[1].cpf"),
+                paths(Validator.validate(order)));
+        assertFalse(Validator.isValid(order));
+
+        order.address.cep = "01310-100";
+        order.items = List.of();
+        order.addresses.remove("trabalho");
+        order.extras = null;
+        assertTrue(Validator.isValid(order));
+    }
+
+    @Test
+    public void cycleIsValidatedOnce() {
+        Node first = new Node();
+        Node second = new Node();
+        first.next = second;
+        second.next = first;
+        assertEquals(List.of("name", "next.name"), paths(Validator.validate(first)));
+
+        Node self = new Node();
+        self.next = self;
+        assertEquals(List.of("name"), paths(Validator.validate(self)));
+        assertFalse(Validator.isValid(self));
+    }
+
+    // O objeto além do limite não é validado; o campo que leva a ele falha com o erro de @TargetValidation
+    @Test
+    public void maxDepthCutsOffDeeperObjects() {
+        Node first = new Node();
+        first.name = "primeiro";
+        first.next = new Node();
+        first.next.name = "segundo";
+        first.next.next = new Node();
+        assertEquals(List.of("next.next.name"), paths(Validator.validate(first)));
+
+        Validator.setMaxDepth(1);
+        ValidationResult result = Validator.validate(first);
+        assertEquals(List.of("next.next"), paths(result));
+        assertEquals("Target Annotation", result.errors().get(0).code());
+
+        Validator.setMaxDepth(0);
+        assertEquals(List.of("next"), paths(Validator.validate(first)));
+    }
+
+    // Da superclasse mais alta para a classe do objeto, inclusive campos privados
+    @Test
+    public void inheritedFieldsComeFirst() {
+        assertEquals(List.of("cep", "street", "payerCpf"), paths(Validator.validate(new BillingAddress())));
+        assertEquals(List.of("cep", "street"), paths(Validator.validate(new PlainAddress())));
+        assertEquals(List.of("cep"), paths(Validator.validate(new BaseAddress())));
+    }
+
+    @Test
+    public void staticFieldsAreSkipped() {
+        assertTrue(Validator.isValid(new WithStatic()));
+        assertEquals(List.of(), paths(Validator.validate(new WithStatic())));
+    }
+
+    @Test
+    public void recordComponentsAreReadThroughAccessors() {
+        assertTrue(Validator.isValid(new Supplier("529.982.247-25/99", "01310-100")));
+        assertEquals(List.of("cpf", "cep"), paths(Validator.validate(new Supplier("529.982.247-26", "0131"))));
+    }
+
+    // As regras vêm do tipo do objeto, não do tipo selado declarado no campo
+    @Test
+    public void sealedTypesUseTheRuntimeRecord() {
+        Contract contract = new Contract();
+        contract.party = new Person("529.982.247-26");
+        contract.witnesses = List.of(new Company("Testemunha"), new Company(null), new Person("529.982.247-25"));
+        assertEquals(List.of("party.cpf", "witnesses[1].name"), paths(Validator.validate(contract)));
+    }
+
+    // Só as regras dos grupos pedidos rodam, inclusive no objeto aninhado
+    @Test
+    public void groupsSelectRules() {
+        Account account = new Account();
+        assertEquals(List.of("name", "cpf", "address.cep"), paths(Validator.validate(account)));
+        assertEquals(paths(Validator.validate(account)), paths(Validator.validate(account, Group.Default.class)));
+        assertEquals(List.of("name"), paths(Validator.validate(account, Search.class)));
+        assertEquals(List.of("name", "nickname"), paths(Validator.validate(account, Patch.class)));
+        assertEquals(List.of("cnpj"), paths(Validator.validate(account, Create.class)));
+        assertEquals(List.of("name", "cnpj"), paths(Validator.validate(account, Search.class, Create.class)));
+
+        account.name = "Conta";
+        assertTrue(Validator.isValid(account, Search.class));
+        assertFalse(Validator.isValid(account, Patch.class));
+        try {
+            Validator.target(account, Create.class);
+            fail();
+        } catch (ValidationException e) {
+            assertEquals(1, e.getErrors().size());
+        }
+    }
+
+    @Test
+    public void validatePropertiesChecksOnlyTheNamedProperties() {
+        Registration registration = new Registration();
+        registration.cpf = "529.982.247-26";
+        assertEquals(List.of("cpf"), paths(Validator.validateProperties(registration, "cpf")));
+        assertEquals(List.of("cpf", "cep"), paths(Validator.validateProperties(registration, "cpf", "cep")));
+        assertEquals(List.of(), paths(Validator.validateProperties(registration, "registration", "tags")));
+        assertEquals(List.of(), paths(Validator.validateProperties(registration)));
+        // A inscrição depende do estado, então validar o estado também confere a inscrição
+        registration.state = "Minas Gerais";
+        assertEquals(List.of("registration"), paths(Validator.validateProperties(registration, "state")));
+        try {
+            Validator.validateProperties(registration, "notes");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("notes"));
+        }
+    }
+
+    // A lista pode mudar sem trocar a referência, então sempre conta como alterada
+    @Test
+    public void dirtyTrackerValidatesOnlyChangedProperties() {
+        Registration registration = new Registration();
+        DirtyTracker tracker = Validator.track(registration);
+        assertEquals(List.of("tags"), tracker.changedProperties());
+        assertTrue(tracker.validateChanged().isValid());
+
+        registration.cpf = "529.982.247-26";
+        registration.tags.add("b");
+        registration.tags.add("c");
+        assertEquals(List.of("cpf", "tags"), tracker.changedProperties());
+        assertEquals(List.of("cpf", "tags"), paths(tracker.validateChanged()));
+
+        registration.cpf = "529.982.247-25";
+        registration.state = "Minas Gerais";
+        assertEquals(List.of("state", "tags"), tracker.changedProperties());
+        assertEquals(List.of("registration", "tags"), paths(tracker.validateChanged()));
+        // O CEP inválido não mudou e fica de fora
+        assertEquals(List.of("cep", "registration", "tags"), paths(Validator.validate(registration)));
+    }
+
+    // Sem campo ligado e sem uf não há estado para a inscrição
+    @Test
+    public void stateRegistrationWithoutStateIsADefinitionError() {
+        assertDefinitionError(new Unlinked(), "no @StateRegistration(uf = ...)");
+        assertDefinitionError(new InvalidUf(), "\"XX\") is not a valid UF");
+    }
+
+    @Test
+    public void stateRegistrationState() {
+        assertTrue(Validator.isValid(new FixedState()));
+        assertTrue(Validator.isValid(new Linked()));
+        Linked linked = new Linked();
+        linked.state = "São Paulo";
+        assertEquals(List.of("registration"), paths(Validator.validate(linked)));
+    }
+
+    private static void assertDefinitionError(Object object, String message) {
+        try {
+            Validator.validate(object);
+            fail();
+        } catch (ValidationDefinitionException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(message));
+        }
+    }
+
+    private static List<String> paths(ValidationResult result) {
+        return result.errors().stream().map(Error::path).toList();
+    }
+
+}
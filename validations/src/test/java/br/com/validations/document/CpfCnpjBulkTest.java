@@ -0,0 +1,174 @@
+package br.com.validations.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+// Roda duas vezes pelo surefire: com jdk.incubator.vector (kernels SIMD) e sem o módulo (laço escalar)
+public class CpfCnpjBulkTest {
+
+    // Tamanhos em volta das larguras de vetor (4 a 16 lanes) e dos blocos de 64 bits do BitSet
+    private static final int[] SIZES = { 0, 1, 3, 4, 5, 7, 8, 9, 15, 16, 17, 31, 32, 33, 63, 64, 65, 100, 127, 128,
+            129, 1_000, 4_099 };
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Test
+    public void vectorizedOnlyWithTheModule() {
+        String module = System.getProperty("vector.module");
+        if (module == null) {
+            return;
+        }
+        if (Boolean.parseBoolean(module)) {
+            assertTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+            assertEquals(VectorKernels.isUseful(), CpfCnpjBulk.isVectorized());
+        } else {
+            assertFalse(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+            assertFalse(CpfCnpjBulk.isVectorized());
+        }
+    }
+
+    @Test
+    public void numbersMatchCpfCnpj() {
+        for (int size : SIZES) {
+            long[] cpfs = numbers(size, CpfCnpj.CPF_LENGTH, CpfCnpj.CPF_FIRST_WEIGHTS, CpfCnpj.CPF_SECOND_WEIGHTS,
+                    CpfCnpj.CPF_LIMIT);
+            BitSet valid = CpfCnpjBulk.validateCpf(cpfs);
+            for (int i = 0; i < size; i++) {
+                assertEquals(size + "/" + i + ": " + cpfs[i], CpfCnpj.isValidCpf(cpfs[i]), valid.get(i));
+            }
+            assertTrue(valid.length() <= size);
+
+            long[] cnpjs = numbers(size, CpfCnpj.CNPJ_LENGTH, CpfCnpj.CNPJ_FIRST_WEIGHTS,
+                    CpfCnpj.CNPJ_SECOND_WEIGHTS, CpfCnpj.CNPJ_LIMIT);
+            valid = CpfCnpjBulk.validateCnpj(cnpjs);
+            for (int i = 0; i < size; i++) {
+                assertEquals(size + "/" + i + ": " + cnpjs[i], CpfCnpj.isValidCnpj(cnpjs[i]), valid.get(i));
+            }
+            assertTrue(valid.length() <= size);
+        }
+    }
+
+    @Test
+    public void digitColumnsMatchCpfCnpj() {
+        for (int size : SIZES) {
+            byte[][] cpfs = columns(size, CpfCnpj.CPF_LENGTH, CpfCnpj.CPF_FIRST_WEIGHTS, CpfCnpj.CPF_SECOND_WEIGHTS);
+            BitSet valid = CpfCnpjBulk.validateCpf(cpfs);
+            for (int i = 0; i < size; i++) {
+                String digits = row(cpfs, i);
+                assertEquals(size + "/" + i + ": " + digits, digits != null && CpfCnpj.isValidCpf(digits),
+                        valid.get(i));
+            }
+            assertTrue(valid.length() <= size);
+
+            byte[][] cnpjs = columns(size, CpfCnpj.CNPJ_LENGTH, CpfCnpj.CNPJ_FIRST_WEIGHTS,
+                    CpfCnpj.CNPJ_SECOND_WEIGHTS);
+            valid = CpfCnpjBulk.validateCnpj(cnpjs);
+            for (int i = 0; i < size; i++) {
+                String digits = row(cnpjs, i);
+                assertEquals(size + "/" + i + ": " + digits, digits != null && CpfCnpj.isValidCnpj(digits),
+                        valid.get(i));
+            }
+            assertTrue(valid.length() <= size);
+        }
+    }
+
+    @Test
+    public void emptyInput() {
+        assertTrue(CpfCnpjBulk.validateCpf(new long[0]).isEmpty());
+        assertTrue(CpfCnpjBulk.validateCnpj(new long[0]).isEmpty());
+        assertTrue(CpfCnpjBulk.validateCpf(new byte[CpfCnpj.CPF_LENGTH][0]).isEmpty());
+        assertTrue(CpfCnpjBulk.validateCnpj(new byte[CpfCnpj.CNPJ_LENGTH][0]).isEmpty());
+    }
+
+    @Test
+    public void columnShape() {
+        try {
+            CpfCnpjBulk.validateCpf(new byte[CpfCnpj.CNPJ_LENGTH][4]);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Expected 11 digit columns"));
+        }
+        byte[][] columns = new byte[CpfCnpj.CPF_LENGTH][4];
+        columns[5] = new byte[3];
+        try {
+            CpfCnpjBulk.validateCpf(columns);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("same length"));
+        }
+    }
+
+    // Metade com os dígitos verificadores corretos; o resto com dígitos errados, negativos ou fora do limite
+    private long[] numbers(int size, int length, int[] firstWeights, int[] secondWeights, long limit) {
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            int[] digits = document(length, firstWeights, secondWeights);
+            long value = 0;
+            for (int digit : digits) {
+                value = value * 10 + digit;
+            }
+            values[i] = switch (random.nextInt(10)) {
+                case 0 -> -value;
+                case 1 -> value + limit;
+                case 2 -> random.nextLong();
+                default -> value;
+            };
+        }
+        return values;
+    }
+
+    // digits[j][i]; alguns valores fora de 0 a 9, inclusive os que só diferem de um dígito válido pelos bits altos
+    private byte[][] columns(int size, int length, int[] firstWeights, int[] secondWeights) {
+        byte[][] columns = new byte[length][size];
+        for (int i = 0; i < size; i++) {
+            int[] digits = document(length, firstWeights, secondWeights);
+            for (int j = 0; j < length; j++) {
+                columns[j][i] = (byte) digits[j];
+            }
+            if (random.nextInt(8) == 0) {
+                byte[] invalid = { 10, 15, 16, 25, -1, -6, (byte) 0x80, '5' };
+                columns[random.nextInt(length)][i] = invalid[random.nextInt(invalid.length)];
+            }
+        }
+        return columns;
+    }
+
+    private int[] document(int length, int[] firstWeights, int[] secondWeights) {
+        int[] digits = new int[length];
+        int first = 0;
+        int second = 0;
+        for (int j = 0; j < length - 2; j++) {
+            digits[j] = random.nextInt(10);
+            first += digits[j] * firstWeights[j];
+            second += digits[j] * secondWeights[j];
+        }
+        digits[length - 2] = CpfCnpj.checkDigit(first);
+        second += digits[length - 2] * secondWeights[length - 2];
+        digits[length - 1] = CpfCnpj.checkDigit(second);
+        if (random.nextBoolean()) {
+            int j = random.nextInt(length);
+            digits[j] = (digits[j] + 1 + random.nextInt(9)) % 10;
+        }
+        return digits;
+    }
+
+    // null quando algum valor não é um dígito
+    private static String row(byte[][] columns, int index) {
+        StringBuilder digits = new StringBuilder();
+        for (byte[] column : columns) {
+            if (column[index] < 0 || column[index] > 9) {
+                return null;
+            }
+            digits.append((char) ('0' + column[index]));
+        }
+        return digits.toString();
+    }
+
+}
@@ -0,0 +1,202 @@
+package br.com.validations.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+// Compara CpfCnpj com o algoritmo original (replaceAll da máscara e soma por charAt)
+public class CpfCnpjTest {
+
+    private static final int[] CPF_FIRST = { 10, 9, 8, 7, 6, 5, 4, 3, 2 };
+    private static final int[] CPF_SECOND = { 11, 10, 9, 8, 7, 6, 5, 4, 3, 2 };
+    private static final int[] CNPJ_FIRST = { 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 };
+    private static final int[] CNPJ_SECOND = { 6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 };
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Test
+    public void cpf() {
+        assertCpf(true, "529.982.247-25");
+        assertCpf(true, "52998224725");
+        assertCpf(true, "111.444.777-35");
+        assertCpf(true, "529 982 247 25");
+        assertCpf(true, "5-2-9.9x8y2z2/4/7 2 5");
+        // O algoritmo original não rejeitava dígitos repetidos
+        assertCpf(true, "111.111.111-11");
+        assertCpf(true, "00000000000");
+        assertCpf(true, "012.345.678-90");
+        // Dígitos fora de 0-9 são máscara, como no replaceAll
+        assertCpf(true, "52998224725\u0663");
+        assertCpf(false, "529.982.247-26");
+        assertCpf(false, "529.982.247-35");
+        assertCpf(false, "529.982.247-2");
+        assertCpf(false, "529.982.247-250");
+        assertCpf(false, "0529.982.247-25");
+        assertCpf(false, "abc");
+        assertCpf(false, "");
+    }
+
+    @Test
+    public void cnpj() {
+        assertCnpj(true, "11.222.333/0001-81");
+        assertCnpj(true, "11222333000181");
+        assertCnpj(true, "11 222 333 0001 81");
+        assertCnpj(true, "00.000.000/0000-00");
+        assertCnpj(false, "11.222.333/0001-82");
+        assertCnpj(false, "11.222.333/0001-91");
+        assertCnpj(false, "11.222.333/0001-8");
+        assertCnpj(false, "11.222.333/0001-810");
+        assertCnpj(false, "529.982.247-25");
+        assertCnpj(false, "");
+    }
+
+    @Test
+    public void numbers() {
+        assertEquals(true, CpfCnpj.isValidCpf(52998224725L));
+        // Zeros à esquerda ficam implícitos no número
+        assertEquals(true, CpfCnpj.isValidCpf(1234567890L));
+        assertEquals(true, CpfCnpj.isValidCpf(0L));
+        assertEquals(false, CpfCnpj.isValidCpf(52998224726L));
+        assertEquals(false, CpfCnpj.isValidCpf(-52998224725L));
+        assertEquals(false, CpfCnpj.isValidCpf(100_000_000_000L + 52998224725L));
+        assertEquals(true, CpfCnpj.isValidCnpj(11222333000181L));
+        assertEquals(true, CpfCnpj.isValidCnpj(0L));
+        assertEquals(false, CpfCnpj.isValidCnpj(11222333000182L));
+        assertEquals(false, CpfCnpj.isValidCnpj(-11222333000181L));
+        assertEquals(false, CpfCnpj.isValidCnpj(Long.MAX_VALUE));
+    }
+
+    // Metade dos números sorteados recebe os dígitos verificadores corretos, senão quase todos seriam inválidos
+    @Test
+    public void randomNumbersMatchTheOriginalAlgorithm() {
+        for (int i = 0; i < 200_000; i++) {
+            String cpf = document(CPF_FIRST, CPF_SECOND);
+            assertEquals(cpf, reference(cpf, CPF_FIRST, CPF_SECOND), CpfCnpj.isValidCpf(cpf));
+            assertEquals(cpf, reference(cpf, CPF_FIRST, CPF_SECOND), CpfCnpj.isValidCpf(Long.parseLong(cpf)));
+            String masked = mask(cpf);
+            assertEquals(masked, reference(masked, CPF_FIRST, CPF_SECOND), CpfCnpj.isValidCpf(masked));
+
+            String cnpj = document(CNPJ_FIRST, CNPJ_SECOND);
+            assertEquals(cnpj, reference(cnpj, CNPJ_FIRST, CNPJ_SECOND), CpfCnpj.isValidCnpj(cnpj));
+            assertEquals(cnpj, reference(cnpj, CNPJ_FIRST, CNPJ_SECOND), CpfCnpj.isValidCnpj(Long.parseLong(cnpj)));
+            masked = mask(cnpj);
+            assertEquals(masked, reference(masked, CNPJ_FIRST, CNPJ_SECOND), CpfCnpj.isValidCnpj(masked));
+        }
+    }
+
+    // byte[] e ByteBuffer (heap e direto) numa fatia no meio de um buffer maior dão o mesmo resultado da String
+    @Test
+    public void bytesMatchCharSequence() {
+        for (int i = 0; i < 100_000; i++) {
+            String cpf = mask(document(CPF_FIRST, CPF_SECOND));
+            byte[] bytes = slice(cpf);
+            int length = bytes.length - 6;
+            boolean expected = CpfCnpj.isValidCpf(cpf);
+            assertEquals(cpf, expected, CpfCnpj.isValidCpf(bytes, 3, length));
+            assertEquals(cpf, expected, CpfCnpj.isValidCpf(ByteBuffer.wrap(bytes), 3, length));
+            assertEquals(cpf, expected, CpfCnpj.isValidCpf(direct(bytes), 3, length));
+
+            String cnpj = mask(document(CNPJ_FIRST, CNPJ_SECOND));
+            bytes = slice(cnpj);
+            length = bytes.length - 6;
+            expected = CpfCnpj.isValidCnpj(cnpj);
+            assertEquals(cnpj, expected, CpfCnpj.isValidCnpj(bytes, 3, length));
+            assertEquals(cnpj, expected, CpfCnpj.isValidCnpj(ByteBuffer.wrap(bytes), 3, length));
+            assertEquals(cnpj, expected, CpfCnpj.isValidCnpj(direct(bytes), 3, length));
+        }
+    }
+
+    @Test
+    public void bytesOutsideTheSliceAreIgnored() {
+        byte[] bytes = "99529.982.247-2599".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(true, CpfCnpj.isValidCpf(bytes, 2, 14));
+        assertFalse(CpfCnpj.isValidCpf(bytes, 0, bytes.length));
+        // Bytes acima de 127 são negativos e contam como máscara
+        byte[] high = { '5', '2', '9', (byte) 0xB3, '9', '8', '2', '2', '4', '7', '2', '5' };
+        assertEquals(true, CpfCnpj.isValidCpf(high, 0, high.length));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).position(5);
+        CpfCnpj.isValidCpf(buffer, 2, 14);
+        assertEquals(5, buffer.position());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void sliceOutsideTheArray() {
+        CpfCnpj.isValidCnpj(new byte[14], 1, 14);
+    }
+
+    // Três bytes de lixo de cada lado, para pegar leituras fora da fatia
+    private static byte[] slice(String value) {
+        return ("9.9" + value + "9-9").getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static ByteBuffer direct(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).clear();
+    }
+
+    private static void assertCpf(boolean expected, String value) {
+        assertEquals(value, expected, reference(value, CPF_FIRST, CPF_SECOND));
+        assertEquals(value, expected, CpfCnpj.isValidCpf(value));
+    }
+
+    private static void assertCnpj(boolean expected, String value) {
+        assertEquals(value, expected, reference(value, CNPJ_FIRST, CNPJ_SECOND));
+        assertEquals(value, expected, CpfCnpj.isValidCnpj(value));
+    }
+
+    private String document(int[] firstWeights, int[] secondWeights) {
+        StringBuilder digits = new StringBuilder();
+        for (int i = 0; i < firstWeights.length; i++) {
+            digits.append((char) ('0' + random.nextInt(10)));
+        }
+        if (random.nextBoolean()) {
+            digits.append(checkDigit(digits, firstWeights));
+            digits.append(checkDigit(digits, secondWeights));
+        } else {
+            digits.append((char) ('0' + random.nextInt(10))).append((char) ('0' + random.nextInt(10)));
+        }
+        return digits.toString();
+    }
+
+    // Insere separadores e, às vezes, tira ou sobra um dígito
+    private String mask(String digits) {
+        StringBuilder masked = new StringBuilder();
+        for (int i = 0; i < digits.length(); i++) {
+            if (random.nextInt(4) == 0) {
+                masked.append(".-/ x".charAt(random.nextInt(5)));
+            }
+            masked.append(digits.charAt(i));
+        }
+        switch (random.nextInt(8)) {
+            case 0 -> masked.deleteCharAt(masked.length() - 1);
+            case 1 -> masked.append((char) ('0' + random.nextInt(10)));
+            default -> {
+            }
+        }
+        return masked.toString();
+    }
+
+    private static int checkDigit(CharSequence digits, int[] weights) {
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += (digits.charAt(i) - '0') * weights[i];
+        }
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    private static boolean reference(String value, int[] firstWeights, int[] secondWeights) {
+        String digits = value.replaceAll("[^0-9]", "");
+        int length = secondWeights.length + 1;
+        if (digits.length() != length) {
+            return false;
+        }
+        return digits.charAt(length - 2) - '0' == checkDigit(digits, firstWeights)
+                && digits.charAt(length - 1) - '0' == checkDigit(digits, secondWeights);
+    }
+
+}
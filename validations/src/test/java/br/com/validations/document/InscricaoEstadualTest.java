@@ -0,0 +1,162 @@
+package br.com.validations.document;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import br.com.validations.enums.BrazilianStates;
+
+// Os valores esperados foram conferidos com os métodos validaIEXxx originais
+public class InscricaoEstadualTest {
+
+    // UF, inscrição sem máscara e com máscara
+    private static final String[][] VALID = {
+            { "AC", "0150367844098", "01.503.678/440-98" },
+            { "AL", "248486845", "24.848.684-5" },
+            { "AP", "031495737", "03.149.573-7" },
+            { "AM", "019963343", "01.996.334-3" },
+            { "BA", "37178040", "3717804-0" },
+            { "CE", "721227562", "72.122.756-2" },
+            { "DF", "9705744112146", "97.057.441/121-46" },
+            { "ES", "987103482", "987.103.48-2" },
+            { "GO", "101031882", "10.103.188-2" },
+            { "MA", "125151217", "12.515.121-7" },
+            { "MT", "71958168392", "7195.816.839-2" },
+            { "MS", "287027511", "28.702.751-1" },
+            { "MG", "6950992968329", "695.099.296/8329" },
+            { "PA", "153472448", "15.347.244-8" },
+            { "PB", "977132781", "97.713.278-1" },
+            { "PR", "1708027568", "170.80275-68" },
+            { "PE", "14644061407074", "14.6.440.6140707-4" },
+            { "PI", "905479637", "90.547.963-7" },
+            { "RJ", "52081130", "52.081.13-0" },
+            { "RN", "200097750", "20.009.775-0" },
+            { "RS", "8332494646", "833/2494646" },
+            { "RO", "67502836819024", "6750283681902-4" },
+            { "RR", "243314488", "24.331.448-8" },
+            { "SC", "017184029", "017.184.029" },
+            { "SP", "028787014961", "028.787.014.961" },
+            { "SE", "508518865", "50.851.886-5" },
+            { "TO", "622389939", "62.238.993-9" } };
+
+    @Test
+    public void everyState() {
+        Set<BrazilianStates> covered = EnumSet.noneOf(BrazilianStates.class);
+        for (String[] row : VALID) {
+            BrazilianStates state = BrazilianStates.fromUf(row[0]);
+            covered.add(state);
+            String digits = row[1];
+            assertValid(state, digits);
+            assertValid(state, row[2]);
+            char last = digits.charAt(digits.length() - 1);
+            assertInvalid(state, digits.substring(0, digits.length() - 1) + (char) ('0' + (last - '0' + 1) % 10));
+            assertInvalid(state, digits + "0");
+            assertInvalid(state, digits.substring(0, digits.length() - 1));
+        }
+        assertEquals(EnumSet.allOf(BrazilianStates.class), covered);
+    }
+
+    @Test
+    public void fixedPrefixes() {
+        assertInvalid(BrazilianStates.ALAGOAS, "258486845");
+        assertInvalid(BrazilianStates.AMAPA, "041495737");
+        assertInvalid(BrazilianStates.MARANHAO, "135151217");
+        assertInvalid(BrazilianStates.MATO_GROSSO_DO_SUL, "297027511");
+        assertInvalid(BrazilianStates.PARA, "163472448");
+        assertInvalid(BrazilianStates.RORAIMA, "253314488");
+        assertInvalid(BrazilianStates.RIO_GRANDE_DO_NORTE, "210400401");
+        assertInvalid(BrazilianStates.GOIAS, "151031051");
+    }
+
+    // Produtor rural: 'P' inicial e só o primeiro dígito verificador
+    @Test
+    public void saoPauloRuralProducer() {
+        assertValid(BrazilianStates.SAO_PAULO, "P-01100424.3/002");
+        assertValid(BrazilianStates.SAO_PAULO, "P011004243002");
+        assertValid(BrazilianStates.SAO_PAULO, "P-01100424.3/003");
+        assertInvalid(BrazilianStates.SAO_PAULO, "P-01100424.4/002");
+        assertInvalid(BrazilianStates.SAO_PAULO, "011004243002");
+        // O original lançava NumberFormatException com 11 dígitos após o 'P'
+        assertInvalid(BrazilianStates.SAO_PAULO, "P-01100424.3/02");
+        assertValid(BrazilianStates.SAO_PAULO, "110.042.490.114");
+    }
+
+    @Test
+    public void rioGrandeDoNorteNineAndTenDigits() {
+        assertValid(BrazilianStates.RIO_GRANDE_DO_NORTE, "200400401");
+        assertValid(BrazilianStates.RIO_GRANDE_DO_NORTE, "20.040.040-1");
+        assertValid(BrazilianStates.RIO_GRANDE_DO_NORTE, "2012345670");
+        assertInvalid(BrazilianStates.RIO_GRANDE_DO_NORTE, "2012345671");
+        assertInvalid(BrazilianStates.RIO_GRANDE_DO_NORTE, "20123456701");
+    }
+
+    // O módulo (10 ou 11) depende do primeiro dígito com 8 dígitos e do segundo com 9
+    @Test
+    public void bahiaModulus() {
+        assertValid(BrazilianStates.BAHIA, "12345663");
+        assertValid(BrazilianStates.BAHIA, "61234557");
+        assertValid(BrazilianStates.BAHIA, "91234518");
+        assertInvalid(BrazilianStates.BAHIA, "61234558");
+        assertValid(BrazilianStates.BAHIA, "012345663");
+        assertValid(BrazilianStates.BAHIA, "061234557");
+        assertValid(BrazilianStates.BAHIA, "071234500");
+        assertValid(BrazilianStates.BAHIA, "612345577");
+        assertInvalid(BrazilianStates.BAHIA, "012345664");
+    }
+
+    // Resto 1 dá dígito 1 só entre 10103105 e 10119997; 11094402 aceita 0 ou 1
+    @Test
+    public void goiasRanges() {
+        assertValid(BrazilianStates.GOIAS, "101031051");
+        assertInvalid(BrazilianStates.GOIAS, "101031050");
+        assertValid(BrazilianStates.GOIAS, "101031181");
+        assertValid(BrazilianStates.GOIAS, "101200030");
+        assertInvalid(BrazilianStates.GOIAS, "101200031");
+        assertValid(BrazilianStates.GOIAS, "110944020");
+        assertValid(BrazilianStates.GOIAS, "110944021");
+        assertInvalid(BrazilianStates.GOIAS, "110944022");
+    }
+
+    // Os dois dígitos verificadores são conferidos
+    @Test
+    public void minasGerais() {
+        assertValid(BrazilianStates.MINAS_GERAIS, "062.307.904/0081");
+        assertInvalid(BrazilianStates.MINAS_GERAIS, "6950992968319");
+        assertInvalid(BrazilianStates.MINAS_GERAIS, "6950992968328");
+    }
+
+    // O original só aceitava o formato novo, de 14 dígitos
+    @Test
+    public void rondoniaFormats() {
+        assertValid(BrazilianStates.RONDONIA, "0000000062521-3");
+        assertInvalid(BrazilianStates.RONDONIA, "101.62521-3");
+        assertInvalid(BrazilianStates.RONDONIA, "0000000062521");
+    }
+
+    @Test
+    public void tocantinsNineAndElevenDigits() {
+        assertValid(BrazilianStates.TOCANTINS, "01030000240");
+        assertValid(BrazilianStates.TOCANTINS, "29.01.022783-6");
+        assertInvalid(BrazilianStates.TOCANTINS, "0103000024");
+    }
+
+    @Test
+    public void moreThanFourteenDigits() {
+        assertInvalid(BrazilianStates.PERNAMBUCO, "146440614070740");
+        assertInvalid(BrazilianStates.RONDONIA, "9967502836819024");
+    }
+
+    private static void assertValid(BrazilianStates state, String value) {
+        assertTrue(state + " " + value, InscricaoEstadual.isValid(value, state));
+    }
+
+    private static void assertInvalid(BrazilianStates state, String value) {
+        assertFalse(state + " " + value, InscricaoEstadual.isValid(value, state));
+    }
+
+}
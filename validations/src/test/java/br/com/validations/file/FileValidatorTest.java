@@ -0,0 +1,170 @@
+package br.com.validations.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FileValidatorTest {
+
+    private static final String CPF = "529.982.247-25";
+    private static final String WRONG_CPF = "529.982.247-26";
+
+    private final List<Path> files = new ArrayList<>();
+    private ForkJoinPool pool;
+
+    @Before
+    public void pool() {
+        pool = new ForkJoinPool(8);
+    }
+
+    @After
+    public void cleanUp() throws IOException {
+        pool.shutdown();
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // Linha em branco não conta como registro, mas conta na numeração
+    @Test
+    public void csvWithHeader() throws IOException {
+        Path file = write("nome;cpf;cep\n"
+                + "Ana;" + CPF + ";01310-100\n"
+                + "Bia;" + WRONG_CPF + ";01310-100\n"
+                + "Caio;" + CPF + ";0131\n"
+                + "\n"
+                + "\"Silva; Souza\";" + WRONG_CPF + ";\"01310-100\"\n"
+                + "Davi;;\n");
+        FileReport report = csv().validate(file, pool);
+        assertEquals(List.of("3;cpf;Cpf Annotation", "4;cep;Cep Annotation", "6;cpf;Cpf Annotation"), errors(report));
+        assertEquals(5, report.rows());
+    }
+
+    @Test
+    public void crlfLineEndings() throws IOException {
+        Path file = write("nome;cpf;cep\r\n"
+                + "Ana;" + CPF + ";01310-100\r\n"
+                + "Bia;" + WRONG_CPF + ";01310-100\r\n"
+                + "\r\n"
+                + "Caio;" + CPF + ";0131\r\n");
+        FileReport report = csv().validate(file, pool);
+        assertEquals(List.of("3;cpf;Cpf Annotation", "5;cep;Cep Annotation"), errors(report));
+        assertEquals(3, report.rows());
+    }
+
+    @Test
+    public void blankLastLineAndMissingFinalNewline() throws IOException {
+        Path trailing = write("nome;cpf;cep\nAna;" + WRONG_CPF + ";01310-100\n\n   \n");
+        FileReport report = csv().validate(trailing, pool);
+        assertEquals(List.of("2;cpf;Cpf Annotation"), errors(report));
+        assertEquals(1, report.rows());
+
+        Path unterminated = write("nome;cpf;cep\nAna;" + CPF + ";01310-100\nBia;" + WRONG_CPF + ";01310-100");
+        report = csv().validate(unterminated, pool);
+        assertEquals(List.of("3;cpf;Cpf Annotation"), errors(report));
+        assertEquals(2, report.rows());
+    }
+
+    @Test
+    public void columnsByIndexWithoutHeader() throws IOException {
+        Path file = write(CPF + ",x@y.com\n" + WRONG_CPF + ",x@\n");
+        FileReport report = FileValidator.csv(',', false)
+                .column(0, ColumnRule.CPF)
+                .column(1, ColumnRule.EMAIL)
+                .validate(file, pool);
+        assertEquals(List.of("2;0;Cpf Annotation", "2;1;Email Annotation"), errors(report));
+    }
+
+    @Test
+    public void fixedWidth() throws IOException {
+        Path file = write(CPF + "01310-100SP028787014961\r\n"
+                + WRONG_CPF + "01310-100MG028787014961\n"
+                + CPF + "0131     MG6950992968329\n");
+        FileReport report = FileValidator.fixedWidth()
+                .column(0, 14, ColumnRule.CPF)
+                .column(14, 23, ColumnRule.CEP)
+                .stateRegistration(25, 40, 23, 25)
+                .validate(file, pool);
+        assertEquals(List.of("2;0-14;Cpf Annotation", "2;25-40;State Registration Annotation",
+                "3;14-23;Cep Annotation"), errors(report));
+        assertEquals(3, report.rows());
+    }
+
+    // Com trechos de 64 bytes o arquivo passa por dezenas de trechos validados em paralelo; os erros continuam na
+    // ordem do arquivo, com o mesmo número de linha da validação em um trecho só
+    @Test
+    public void chunksKeepLineNumbersAndOrder() throws IOException {
+        StringBuilder content = new StringBuilder("nome;cpf;cep\n");
+        for (int i = 0; i < 5_000; i++) {
+            // Uma linha maior que a janela de 64 KB usada na leitura
+            String name = i == 2_500 ? "x".repeat(70_000) : "Cliente " + i;
+            content.append(name).append(';').append(i % 7 == 3 ? WRONG_CPF : CPF).append(';')
+                    .append(i % 11 == 5 ? "0131" : "01310-100").append(i % 13 == 0 ? "\r\n" : "\n");
+            if (i % 17 == 0) {
+                content.append('\n');
+            }
+        }
+        List<String> expected = expectedErrors(content.toString());
+        Path file = write(content.toString());
+
+        FileReport chunked = csv().minChunk(64).validate(file, pool);
+        assertEquals(expected, errors(chunked));
+        assertEquals(5_000, chunked.rows());
+        FileReport single = csv().validate(file, 1);
+        assertEquals(expected, errors(single));
+        for (int i = 1; i < chunked.errorCount(); i++) {
+            assertTrue(chunked.line(i - 1) <= chunked.line(i));
+        }
+    }
+
+    private static FileValidator csv() {
+        return FileValidator.csv(';')
+                .column("cpf", ColumnRule.CPF)
+                .column("cep", ColumnRule.CEP);
+    }
+
+    // Calculados com split e Strings, independente do FileValidator
+    private static List<String> expectedErrors(String content) {
+        List<String> expected = new ArrayList<>();
+        String[] lines = content.split("\n", -1);
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].strip().split(";");
+            if (fields.length < 3) {
+                continue;
+            }
+            if (fields[1].equals(WRONG_CPF)) {
+                expected.add((i + 1) + ";cpf;Cpf Annotation");
+            }
+            if (fields[2].equals("0131")) {
+                expected.add((i + 1) + ";cep;Cep Annotation");
+            }
+        }
+        return expected;
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile("file-validator", ".csv");
+        files.add(file);
+        Files.writeString(file, content, StandardCharsets.ISO_8859_1);
+        return file;
+    }
+
+    private static List<String> errors(FileReport report) throws IOException {
+        StringBuilder out = new StringBuilder();
+        report.writeTo(out);
+        return out.length() == 0 ? List.of() : Arrays.asList(out.toString().split("\n"));
+    }
+
+}
@@ -0,0 +1,130 @@
+package br.com.validations.format;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+// Os reconhecedores substituíram String.matches; as tabelas e o sorteio comparam com as expressões originais
+public class FormatsTest {
+
+    private static final Pattern EMAIL = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+    private static final Pattern CEP = Pattern.compile("^\\d{5}-\\d{3}$");
+    private static final Pattern PHONE = Pattern.compile(
+            "^\\(?(\\d{2})\\)? ?(?:9\\d{4}-\\d{4}|9\\d{8}|\\d{4}-\\d{4}|\\d{8}|9\\d{4}\\d{4}|\\d{9}|9\\d{8}|\\d{8})$");
+
+    @Test
+    public void email() {
+        assertEmail(true, "cliente@empresa.com.br");
+        assertEmail(true, "a@b.co");
+        assertEmail(true, "nome.sobrenome+tag@empresa.com");
+        assertEmail(true, "x_y%z-w@sub-dominio.empresa.io");
+        assertEmail(true, ".comeca.com.ponto@empresa.com");
+        assertEmail(true, "termina.com.ponto.@empresa.com");
+        assertEmail(true, "dois..pontos@empresa.com");
+        assertEmail(true, "a@empresa..com");
+        assertEmail(false, "@empresa.com");
+        assertEmail(false, "cliente@");
+        assertEmail(false, "cliente@empresa");
+        assertEmail(false, "cliente@empresa.c");
+        assertEmail(false, "cliente@empresa.c0m");
+        assertEmail(false, "cliente@.com");
+        assertEmail(false, "cli ente@empresa.com");
+        assertEmail(false, "cliente@@empresa.com");
+        assertEmail(false, "clié@empresa.com");
+        assertEmail(false, "cliente@empresa.com.");
+        assertEmail(false, "");
+    }
+
+    @Test
+    public void cep() {
+        assertCep(true, "01310-100");
+        assertCep(true, "99999-999");
+        assertCep(false, "01310100");
+        assertCep(false, "0131-0100");
+        assertCep(false, "01310-10");
+        assertCep(false, "01310-1000");
+        assertCep(false, "01310 100");
+        assertCep(false, "0131a-100");
+        assertCep(false, "01310-100\n");
+        assertCep(false, "");
+    }
+
+    @Test
+    public void phone() {
+        assertPhone(true, "(11) 91234-5678");
+        assertPhone(true, "(11)91234-5678");
+        assertPhone(true, "11 91234-5678");
+        assertPhone(true, "11912345678");
+        assertPhone(true, "1132345678");
+        assertPhone(true, "(11) 3234-5678");
+        assertPhone(true, "11 32345678");
+        assertPhone(true, "(11 812345678");
+        assertPhone(true, "11) 3234-5678");
+        assertPhone(false, "(11) 81234-5678");
+        assertPhone(false, "(11)  91234-5678");
+        assertPhone(false, "(1) 91234-5678");
+        assertPhone(false, "119123456789");
+        assertPhone(false, "113234567");
+        assertPhone(false, "(11) 3234 5678");
+        assertPhone(false, "");
+    }
+
+    // Cadeias curtas sobre o alfabeto que importa para cada expressão
+    @Test
+    public void randomInputsMatchTheRegularExpressions() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 200_000; i++) {
+            String email = random(random, "ab0.-_%+@é ", 12);
+            assertEquals(email, EMAIL.matcher(email).matches(), Formats.isEmail(email));
+            String cep = random(random, "0123456789-a ", 11);
+            assertEquals(cep, CEP.matcher(cep).matches(), Formats.isCep(cep));
+            String phone = random(random, "0123456789() -", 16);
+            assertEquals(phone, PHONE.matcher(phone).matches(), Formats.isPhone(phone));
+        }
+    }
+
+    // byte[] e ByteBuffer (heap e direto) numa fatia de um buffer maior dão o mesmo resultado da String
+    @Test
+    public void cepBytesMatchCharSequence() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 100_000; i++) {
+            String cep = random(random, "0123456789-a \u00b3", 11);
+            byte[] bytes = ("1-1" + cep + "1-1").getBytes(StandardCharsets.ISO_8859_1);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).clear();
+            boolean expected = Formats.isCep(cep);
+            assertEquals(cep, expected, Formats.isCep(bytes, 3, cep.length()));
+            assertEquals(cep, expected, Formats.isCep(ByteBuffer.wrap(bytes), 3, cep.length()));
+            assertEquals(cep, expected, Formats.isCep(direct, 3, cep.length()));
+        }
+    }
+
+    private static String random(SplittableRandom random, String alphabet, int maxLength) {
+        StringBuilder value = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return value.toString();
+    }
+
+    private static void assertEmail(boolean expected, String value) {
+        assertEquals(value, EMAIL.matcher(value).matches(), expected);
+        assertEquals(value, expected, Formats.isEmail(value));
+    }
+
+    private static void assertCep(boolean expected, String value) {
+        assertEquals(value, CEP.matcher(value).matches(), expected);
+        assertEquals(value, expected, Formats.isCep(value));
+    }
+
+    private static void assertPhone(boolean expected, String value) {
+        assertEquals(value, PHONE.matcher(value).matches(), expected);
+        assertEquals(value, expected, Formats.isPhone(value));
+    }
+
+}